@@ -17,18 +17,29 @@ neoForge {
 
     parchment.minecraftVersion.set(libs.versions.parchment.minecraft.get())
     parchment.mappingsVersion.set(libs.versions.parchment.asProvider().get())
+
+    addModdingDependenciesTo(sourceSets["test"])
 }
 
 dependencies {
     compileOnly(libs.mixin)
     compileOnly(libs.mixinextras.common)
+    compileOnly(libs.asm)
     //compileOnly(libs.iris)
 
+    testImplementation(libs.asm)
+    testImplementation(libs.junit.jupiter)
+    testRuntimeOnly(libs.junit.platform.launcher)
+
     // Only enable for testing as needed
     // Disable before publishing
     //implementation(libs.examplemod.common)
 }
 
+tasks.test {
+    useJUnitPlatform()
+}
+
 publishing {
     publishing {
         publications {
@@ -7,7 +7,10 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.animatable.GeoAnimatable;
 import software.bernie.geckolib.animatable.processing.AnimationController;
+import software.bernie.geckolib.animatable.processing.AnimationLodPolicy;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
 import software.bernie.geckolib.animation.state.BoneSnapshot;
+import software.bernie.geckolib.cache.object.GeoBone;
 import software.bernie.geckolib.constant.dataticket.DataTicket;
 
 import java.util.Arrays;
@@ -21,13 +24,17 @@ import java.util.Map;
  * will have a single instance of {@code AnimatableManager} associated with it
  */
 public class AnimatableManager<T extends GeoAnimatable> {
-	private final Map<String, BoneSnapshot> boneSnapshotCollection = new Object2ObjectOpenHashMap<>();
+	private List<GeoBone> snapshotBones = List.of();
+	private BoneSnapshot[] boneSnapshots = new BoneSnapshot[0];
+	private final BonePoseBuffer poseBuffer = new BonePoseBuffer();
 	private final Map<String, AnimationController<T>> animationControllers;
 	private Map<DataTicket<?>, Object> animatableInstanceData;
 
 	private double lastUpdateTime;
 	private boolean isFirstTick = true;
 	private double firstTickTime = -1;
+	private int animationLodFrame = 0;
+	private double lastLodEvaluationTime = Double.NEGATIVE_INFINITY;
 
 	/**
 	 * Instantiates a new AnimatableManager for the given animatable, calling {@link GeoAnimatable#registerControllers} to define its controllers
@@ -60,12 +67,52 @@ public class AnimatableManager<T extends GeoAnimatable> {
 		return this.animationControllers;
 	}
 
-	public Map<String, BoneSnapshot> getBoneSnapshotCollection() {
-		return this.boneSnapshotCollection;
+	/**
+	 * Get the {@link BoneSnapshot BoneSnapshots} for this animatable, indexed by {@link GeoBone#getIndex() bone index}
+	 * <p>
+	 * If the given bones differ from the ones the snapshots were last built for (such as when the animatable's model changes),
+	 * the snapshots are rebuilt, carrying over the state of any bones with matching names
+	 *
+	 * @param bones All bones of the model currently being animated, ordered by index
+	 */
+	public BoneSnapshot[] getBoneSnapshots(List<GeoBone> bones) {
+		if (this.snapshotBones != bones || this.boneSnapshots.length != bones.size()) {
+			BoneSnapshot[] snapshots = new BoneSnapshot[bones.size()];
+
+			for (int i = 0; i < snapshots.length; i++) {
+				GeoBone bone = bones.get(i);
+				BoneSnapshot snapshot = BoneSnapshot.copy(bone.getInitialSnapshot());
+
+				for (BoneSnapshot existingSnapshot : this.boneSnapshots) {
+					if (existingSnapshot != null && existingSnapshot.getBone().getName().equals(bone.getName())) {
+						snapshot.updateRotation(existingSnapshot.getRotX(), existingSnapshot.getRotY(), existingSnapshot.getRotZ());
+						snapshot.updateOffset(existingSnapshot.getOffsetX(), existingSnapshot.getOffsetY(), existingSnapshot.getOffsetZ());
+						snapshot.updateScale(existingSnapshot.getScaleX(), existingSnapshot.getScaleY(), existingSnapshot.getScaleZ());
+
+						break;
+					}
+				}
+
+				snapshots[i] = snapshot;
+			}
+
+			this.snapshotBones = bones;
+			this.boneSnapshots = snapshots;
+		}
+
+		return this.boneSnapshots;
+	}
+
+	/**
+	 * Get the {@link BonePoseBuffer} holding the most recently computed animation pose for this animatable instance
+	 */
+	public BonePoseBuffer getPoseBuffer() {
+		return this.poseBuffer;
 	}
 
 	public void clearSnapshotCache() {
-		getBoneSnapshotCollection().clear();
+		this.snapshotBones = List.of();
+		this.boneSnapshots = new BoneSnapshot[0];
 	}
 
 	public double getLastUpdateTime() {
@@ -88,6 +135,23 @@ public class AnimatableManager<T extends GeoAnimatable> {
 		return this.isFirstTick;
 	}
 
+	/**
+	 * Advance this animatable's level-of-detail frame counter, and determine whether its animations should be evaluated this frame
+	 *
+	 * @param level The {@link AnimationLodPolicy.Level} that currently applies to this animatable
+	 * @param instanceId The instance id of this animatable, used to stagger evaluations across instances
+	 * @param animationTime The current animation tick
+	 */
+	@ApiStatus.Internal
+	public boolean shouldEvaluateAnimationLod(AnimationLodPolicy.Level level, long instanceId, double animationTime) {
+		if (!level.shouldEvaluate(this.animationLodFrame++ + Long.hashCode(instanceId), animationTime - this.lastLodEvaluationTime))
+			return false;
+
+		this.lastLodEvaluationTime = animationTime;
+
+		return true;
+	}
+
 	@ApiStatus.Internal
 	public void finishFirstTick() {
 		this.isFirstTick = false;
@@ -1,11 +1,16 @@
 package software.bernie.geckolib.animatable.manager;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.animatable.GeoAnimatable;
 import software.bernie.geckolib.animatable.processing.AnimationController;
+import software.bernie.geckolib.animatable.processing.AnimationLodPolicy;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
 import software.bernie.geckolib.animation.state.BoneSnapshot;
+import software.bernie.geckolib.cache.object.GeoBone;
 import software.bernie.geckolib.constant.dataticket.DataTicket;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -70,8 +75,12 @@ public abstract class ContextAwareAnimatableManager<T extends GeoAnimatable, C>
 		return getManagerForContext(getCurrentContext()).getAnimationControllers();
 	}
 
-	public Map<String, BoneSnapshot> getBoneSnapshotCollection() {
-		return getManagerForContext(getCurrentContext()).getBoneSnapshotCollection();
+	public BoneSnapshot[] getBoneSnapshots(List<GeoBone> bones) {
+		return getManagerForContext(getCurrentContext()).getBoneSnapshots(bones);
+	}
+
+	public BonePoseBuffer getPoseBuffer() {
+		return getManagerForContext(getCurrentContext()).getPoseBuffer();
 	}
 
 	public void clearSnapshotCache() {
@@ -102,6 +111,11 @@ public abstract class ContextAwareAnimatableManager<T extends GeoAnimatable, C>
 		getManagerForContext(getCurrentContext()).finishFirstTick();
 	}
 
+	@ApiStatus.Internal
+	public boolean shouldEvaluateAnimationLod(AnimationLodPolicy.Level level, long instanceId, double animationTime) {
+		return getManagerForContext(getCurrentContext()).shouldEvaluateAnimationLod(level, instanceId, animationTime);
+	}
+
 	/**
 	 * Attempt to trigger an animation from a given controller name and registered triggerable animation name
 	 * <p>
@@ -2,7 +2,6 @@ package software.bernie.geckolib.animatable.processing;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import it.unimi.dsi.fastutil.objects.Reference2DoubleMap;
 import net.minecraft.core.Direction.Axis;
 import org.apache.logging.log4j.Level;
 import org.jetbrains.annotations.ApiStatus;
@@ -21,6 +20,9 @@ import software.bernie.geckolib.animation.keyframe.event.data.KeyFrameData;
 import software.bernie.geckolib.animation.keyframe.event.data.ParticleKeyframeData;
 import software.bernie.geckolib.animation.keyframe.event.data.SoundKeyframeData;
 import software.bernie.geckolib.animation.state.BoneSnapshot;
+import software.bernie.geckolib.animation.state.QueryValueBuffer;
+import software.bernie.geckolib.animation.state.SharedPoseCache;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.cache.object.GeoBone;
 import software.bernie.geckolib.constant.DataTickets;
 import software.bernie.geckolib.loading.math.MathValue;
@@ -39,10 +41,13 @@ import java.util.function.Function;
  * one to control attacks, one to control size, etc.
  */
 public class AnimationController<T extends GeoAnimatable> {
+	protected static final double UNRENDERED_TICK_THRESHOLD = 5;
+	private static final int MAX_TIMELINE_STEPS = 256;
+
 	protected final String name;
 	protected final AnimationStateHandler<T> stateHandler;
-	protected final Map<String, BoneAnimationQueue> boneAnimationQueues = new Object2ObjectOpenHashMap<>();
-	protected final Map<String, BoneSnapshot> boneSnapshots = new Object2ObjectOpenHashMap<>();
+	protected final AnimationChannelBuffer animationChannels = new AnimationChannelBuffer();
+	protected BoneSnapshot[] boneSnapshots = new BoneSnapshot[0];
 	protected Queue<AnimationProcessor.QueuedAnimation> animationQueue = new LinkedList<>();
 
 	protected boolean isJustStarting = false;
@@ -68,7 +73,16 @@ public class AnimationController<T extends GeoAnimatable> {
 	protected double animationSpeed = 1;
 	protected Function<T, Double> animationSpeedModifier = animatable -> 1d;
 	protected Function<AnimationState<T>, EasingType> overrideEasingTypeFunction = animationState -> null;
-	private final Set<KeyFrameData> executedKeyFrames = new ObjectOpenHashSet<>();
+	@Nullable
+	protected EasingType easingOverride = null;
+	protected boolean ignoreAnimationLod = false;
+	protected boolean fireKeyframeEventsWhileUnrendered = false;
+	protected double lastRenderPassTick = -1;
+	@Nullable
+	private KeyFrameData[] keyframeEventTimeline = null;
+	private int keyframeEventCursor = 0;
+	@Nullable
+	private List<Runnable> deferredKeyframeEvents = null;
 
 	protected GeoModel<T> currentModel;
 	protected T currentAnimatable;
@@ -223,7 +237,7 @@ public class AnimationController<T extends GeoAnimatable> {
 	 * @return this
 	 */
 	public AnimationController<T> triggerableAnim(String name, RawAnimation animation) {
-		this.triggerableAnimations.put(name, animation);
+		this.triggerableAnimations.put(name, animation.intern());
 
 		return this;
 	}
@@ -241,6 +255,36 @@ public class AnimationController<T extends GeoAnimatable> {
 		return this;
 	}
 
+	/**
+	 * Tells the AnimationController to always evaluate its animations at full rate, ignoring any {@link AnimationLodPolicy} in use by the renderer
+	 * <p>
+	 * Use this for controllers that drive gameplay-critical animations or keyframe events
+	 */
+	public AnimationController<T> ignoreAnimationLod() {
+		this.ignoreAnimationLod = true;
+
+		return this;
+	}
+
+	/**
+	 * Whether this controller ignores any {@link AnimationLodPolicy} in use by the renderer
+	 */
+	public boolean isIgnoringAnimationLod() {
+		return this.ignoreAnimationLod;
+	}
+
+	/**
+	 * Tells the AnimationController to handle the keyframe events it passes while its animatable isn't being rendered,
+	 * rather than skipping them when it catches its timeline back up
+	 *
+	 * @see #advanceTimeline
+	 */
+	public AnimationController<T> fireKeyframeEventsWhileUnrendered() {
+		this.fireKeyframeEventsWhileUnrendered = true;
+
+		return this;
+	}
+
 	/**
 	 * Gets the controller's name
 	 *
@@ -262,6 +306,8 @@ public class AnimationController<T extends GeoAnimatable> {
 
 	/**
 	 * Gets the currently playing {@link RawAnimation triggered animation}, if present
+	 * <p>
+	 * The returned instance is {@link RawAnimation#isInterned() interned}, and can't be modified. Use {@link RawAnimation#copyOf} to build on it
 	 */
 	@Nullable
 	public RawAnimation getTriggeredAnimation() {
@@ -276,10 +322,18 @@ public class AnimationController<T extends GeoAnimatable> {
 	}
 
 	/**
-	 * Gets the currently loaded animation's {@link BoneAnimationQueue BoneAnimationQueues}.
+	 * Gets the {@link AnimationChannelBuffer} holding the animation points computed for the current render frame
+	 */
+	public AnimationChannelBuffer getAnimationChannels() {
+		return this.animationChannels;
+	}
+
+	/**
+	 * Gets the {@link EasingType} override computed by the {@link #setOverrideEasingTypeFunction override function} for the current render frame, if any
 	 */
-	public Map<String, BoneAnimationQueue> getBoneAnimationQueues() {
-		return this.boneAnimationQueues;
+	@Nullable
+	public EasingType getEasingOverride() {
+		return this.easingOverride;
 	}
 
 	/**
@@ -345,6 +399,8 @@ public class AnimationController<T extends GeoAnimatable> {
 	 * Returns the currently cached {@link RawAnimation}
 	 * <p>
 	 * This animation may or may not still be playing, but it is the last one to be set in {@link #setAnimation}
+	 * <p>
+	 * The returned instance is {@link RawAnimation#isInterned() interned}, and can't be modified. Use {@link RawAnimation#copyOf} to build on it
 	 */
 	public RawAnimation getCurrentRawAnimation() {
 		return this.currentRawAnimation;
@@ -382,8 +438,9 @@ public class AnimationController<T extends GeoAnimatable> {
 			return;
 		}
 
-		if (this.needsAnimationReload || !rawAnimation.equals(this.currentRawAnimation)) {
+		if (this.needsAnimationReload || (rawAnimation != this.currentRawAnimation && !rawAnimation.equals(this.currentRawAnimation))) {
 			if (this.currentModel != null) {
+				rawAnimation = rawAnimation.intern();
 				Queue<AnimationProcessor.QueuedAnimation> animations = this.currentModel.getAnimationProcessor().buildAnimationQueue(this.currentAnimatable, rawAnimation);
 
 				if (animations != null) {
@@ -480,11 +537,16 @@ public class AnimationController<T extends GeoAnimatable> {
 	 * <p>
 	 * This is done to allow for upcoming {@link Animation}s to be accounted for in data-gathering
 	 */
-	public void prepareForRenderPass(T animatable, AnimatableManager<T> manager, MolangQueries.Actor<T> actor, Reference2DoubleMap<Variable> variables, double lerpedAnimationTick, GeoModel<T> model) {
+	public void prepareForRenderPass(T animatable, AnimatableManager<T> manager, MolangQueries.Actor<T> actor, QueryValueBuffer queryValues, double lerpedAnimationTick, GeoModel<T> model) {
 		this.isJustStarting = manager.isFirstTick();
 		this.currentModel = model;
 		this.currentAnimatable = animatable;
 		this.animationSpeed = this.animationSpeedModifier.apply(animatable);
+
+		if (this.lastRenderPassTick >= 0 && lerpedAnimationTick - this.lastRenderPassTick > UNRENDERED_TICK_THRESHOLD)
+			advanceTimeline(new AnimationState<>(actor.renderState()), lerpedAnimationTick, this.fireKeyframeEventsWhileUnrendered);
+
+		this.lastRenderPassTick = lerpedAnimationTick;
 		this.processedAnimationTick = adjustTick(lerpedAnimationTick);
 
 		if (this.animationState == State.TRANSITIONING && this.processedAnimationTick >= this.transitionLength) {
@@ -499,7 +561,7 @@ public class AnimationController<T extends GeoAnimatable> {
 			Set<Variable> usedVariables = getUsedVariables();
 
 			if (!usedVariables.isEmpty())
-				MolangQueries.buildActorVariables(actor, usedVariables, variables);
+				MolangQueries.buildActorVariables(actor, usedVariables, queryValues);
 		}
 	}
 
@@ -525,15 +587,18 @@ public class AnimationController<T extends GeoAnimatable> {
 
 	/**
 	 * This method is called every frame in order to populate the animation point
-	 * queues, and process animation state logic
+	 * buffer, and process animation state logic
 	 *
 	 * @param state The animation test state
-	 * @param bones The registered {@link GeoBone bones} for this model
-	 * @param snapshots The {@link BoneSnapshot} map
+	 * @param model The {@link BakedGeoModel} currently being animated
+	 * @param snapshots The {@link BoneSnapshot BoneSnapshots} for the animatable, indexed by bone index
 	 * @param lerpedAnimationTick The current tick + partial tick for the animatable
 	 */
 	@ApiStatus.Internal
-	public void beginTick(AnimationState<T> state, Map<String, GeoBone> bones, Map<String, BoneSnapshot> snapshots, final double lerpedAnimationTick) {
+	public void beginTick(AnimationState<T> state, BakedGeoModel model, BoneSnapshot[] snapshots, final double lerpedAnimationTick) {
+		this.animationChannels.nextFrame();
+		this.easingOverride = this.overrideEasingTypeFunction.apply(state);
+
 		if (this.nextPlaystate == PlayState.STOP || (this.currentAnimation == null && this.animationQueue.isEmpty())) {
 			this.animationState = State.STOPPED;
 			this.justStopped = true;
@@ -541,8 +606,6 @@ public class AnimationController<T extends GeoAnimatable> {
 			return;
 		}
 
-		createInitialQueues(bones.values());
-
 		if (this.justStartedTransition && (this.shouldResetTick || this.justStopped)) {
 			this.justStopped = false;
 			this.processedAnimationTick = adjustTick(lerpedAnimationTick);
@@ -562,7 +625,7 @@ public class AnimationController<T extends GeoAnimatable> {
 		}
 
 		if (getAnimationState() == State.RUNNING) {
-			processCurrentAnimation(state, this.processedAnimationTick, lerpedAnimationTick);
+			processCurrentAnimation(state, model, this.processedAnimationTick, lerpedAnimationTick);
 		}
 		else if (this.animationState == State.TRANSITIONING) {
 			if (this.lastPollTime != lerpedAnimationTick && (this.processedAnimationTick == 0 || this.isJustStarting)) {
@@ -575,43 +638,46 @@ public class AnimationController<T extends GeoAnimatable> {
 				if (this.currentAnimation == null)
 					return;
 
-				saveSnapshotsForAnimation(this.currentAnimation, snapshots);
+				saveSnapshotsForAnimation(this.currentAnimation, model, snapshots);
 			}
 
 			if (this.currentAnimation != null) {
 				this.currentAnimationSeconds = 0;
 
-				for (BoneAnimation boneAnimation : this.currentAnimation.animation().boneAnimations()) {
-					BoneAnimationQueue boneAnimationQueue = this.boneAnimationQueues.get(boneAnimation.boneName());
-					BoneSnapshot boneSnapshot = this.boneSnapshots.get(boneAnimation.boneName());
-					GeoBone bone = bones.get(boneAnimation.boneName());
+				BoneAnimation[] boneAnimations = this.currentAnimation.animation().boneAnimations();
+				int[] boneIndices = model.getBoneIndices(this.currentAnimation.animation());
+
+				for (int i = 0; i < boneAnimations.length; i++) {
+					BoneAnimation boneAnimation = boneAnimations[i];
+					int boneIndex = boneIndices[i];
 
-					if (boneSnapshot == null || bone == null)
+					if (boneIndex == -1 || boneIndex >= this.boneSnapshots.length || this.boneSnapshots[boneIndex] == null)
 						continue;
 
+					BoneSnapshot boneSnapshot = this.boneSnapshots[boneIndex];
+					GeoBone bone = model.bones().get(boneIndex);
+					int slot = this.animationChannels.getSlot(bone);
+					BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
 					KeyframeStack<Keyframe<MathValue>> rotationKeyFrames = boneAnimation.rotationKeyFrames();
 					KeyframeStack<Keyframe<MathValue>> positionKeyFrames = boneAnimation.positionKeyFrames();
 					KeyframeStack<Keyframe<MathValue>> scaleKeyFrames = boneAnimation.scaleKeyFrames();
 
 					if (!rotationKeyFrames.xKeyframes().isEmpty()) {
-						boneAnimationQueue.addNextRotation(null, this.processedAnimationTick, this.transitionLength, boneSnapshot, bone.getInitialSnapshot(),
-								getAnimationPointAtTick(rotationKeyFrames.xKeyframes(), state, 0, true, Axis.X),
-								getAnimationPointAtTick(rotationKeyFrames.yKeyframes(), state, 0, true, Axis.Y),
-								getAnimationPointAtTick(rotationKeyFrames.zKeyframes(), state, 0, true, Axis.Z));
+						bufferTransitionPoint(slot, AnimationChannelBuffer.ROTATION, Axis.X, rotationKeyFrames.xKeyframes(), state, boneSnapshot.getRotX() - initialSnapshot.getRotX(), true);
+						bufferTransitionPoint(slot, AnimationChannelBuffer.ROTATION, Axis.Y, rotationKeyFrames.yKeyframes(), state, boneSnapshot.getRotY() - initialSnapshot.getRotY(), true);
+						bufferTransitionPoint(slot, AnimationChannelBuffer.ROTATION, Axis.Z, rotationKeyFrames.zKeyframes(), state, boneSnapshot.getRotZ() - initialSnapshot.getRotZ(), true);
 					}
 
 					if (!positionKeyFrames.xKeyframes().isEmpty()) {
-						boneAnimationQueue.addNextPosition(null, this.processedAnimationTick, this.transitionLength, boneSnapshot,
-								getAnimationPointAtTick(positionKeyFrames.xKeyframes(), state, 0, false, Axis.X),
-								getAnimationPointAtTick(positionKeyFrames.yKeyframes(), state, 0, false, Axis.Y),
-								getAnimationPointAtTick(positionKeyFrames.zKeyframes(), state, 0, false, Axis.Z));
+						bufferTransitionPoint(slot, AnimationChannelBuffer.POSITION, Axis.X, positionKeyFrames.xKeyframes(), state, boneSnapshot.getOffsetX(), false);
+						bufferTransitionPoint(slot, AnimationChannelBuffer.POSITION, Axis.Y, positionKeyFrames.yKeyframes(), state, boneSnapshot.getOffsetY(), false);
+						bufferTransitionPoint(slot, AnimationChannelBuffer.POSITION, Axis.Z, positionKeyFrames.zKeyframes(), state, boneSnapshot.getOffsetZ(), false);
 					}
 
 					if (!scaleKeyFrames.xKeyframes().isEmpty()) {
-						boneAnimationQueue.addNextScale(null, this.processedAnimationTick, this.transitionLength, boneSnapshot,
-								getAnimationPointAtTick(scaleKeyFrames.xKeyframes(), state, 0, false, Axis.X),
-								getAnimationPointAtTick(scaleKeyFrames.yKeyframes(), state, 0, false, Axis.Y),
-								getAnimationPointAtTick(scaleKeyFrames.zKeyframes(), state, 0, false, Axis.Z));
+						bufferTransitionPoint(slot, AnimationChannelBuffer.SCALE, Axis.X, scaleKeyFrames.xKeyframes(), state, boneSnapshot.getScaleX(), false);
+						bufferTransitionPoint(slot, AnimationChannelBuffer.SCALE, Axis.Y, scaleKeyFrames.yKeyframes(), state, boneSnapshot.getScaleY(), false);
+						bufferTransitionPoint(slot, AnimationChannelBuffer.SCALE, Axis.Z, scaleKeyFrames.zKeyframes(), state, boneSnapshot.getScaleZ(), false);
 					}
 				}
 			}
@@ -631,13 +697,16 @@ public class AnimationController<T extends GeoAnimatable> {
 	/**
 	 * Handle the current animation's state modifications and translations
 	 *
+	 * @param model The {@link BakedGeoModel} currently being animated
 	 * @param adjustedTick The controller-adjusted tick for animation purposes
 	 * @param lerpedAnimationTick The lerped tick (current tick + partial tick)
 	 */
-	private void processCurrentAnimation(AnimationState<T> animationState, double adjustedTick, double lerpedAnimationTick) {
+	private void processCurrentAnimation(AnimationState<T> animationState, BakedGeoModel model, double adjustedTick, double lerpedAnimationTick) {
 		if (adjustedTick >= this.currentAnimation.animation().length()) {
 			if (this.currentAnimation.loopType().shouldPlayAgain(animationState, this, this.currentAnimation.animation())) {
 				if (this.animationState != State.PAUSED) {
+					processKeyframeEvents(animationState, this.currentAnimation.animation().length() + this.transitionLength, true);
+
 					this.shouldResetTick = true;
 
 					adjustedTick = adjustTick(lerpedAnimationTick);
@@ -647,14 +716,17 @@ public class AnimationController<T extends GeoAnimatable> {
 			else {
 				AnimationProcessor.QueuedAnimation nextAnimation = this.animationQueue.peek();
 
-				resetEventKeyFrames();
+				processKeyframeEvents(animationState, this.currentAnimation.animation().length() + this.transitionLength, true);
 
+				// Leave the event cursor at the end of a finished animation, so that reaching this point again each frame doesn't re-fire its events
 				if (nextAnimation == null) {
 					this.animationState = State.STOPPED;
 
 					return;
 				}
 				else {
+					resetEventKeyFrames();
+
 					this.animationState = State.TRANSITIONING;
 					this.shouldResetTick = true;
 					adjustedTick = adjustTick(lerpedAnimationTick);
@@ -665,111 +737,207 @@ public class AnimationController<T extends GeoAnimatable> {
 
 		this.currentAnimationSeconds = adjustedTick / 20d;
 
-		for (BoneAnimation boneAnimation : this.currentAnimation.animation().boneAnimations()) {
-			BoneAnimationQueue boneAnimationQueue = this.boneAnimationQueues.get(boneAnimation.boneName());
+		Animation animation = this.currentAnimation.animation();
+		boolean useSampledTracks = this.easingOverride == null;
+		double boneTick = adjustedTick;
+		SharedPoseCache.Key sharedPoseKey = null;
+		SharedPoseCache.Entry sharedPose = null;
 
-			if (boneAnimationQueue == null)
-				continue;
-
-			KeyframeStack<Keyframe<MathValue>> rotationKeyFrames = boneAnimation.rotationKeyFrames();
-			KeyframeStack<Keyframe<MathValue>> positionKeyFrames = boneAnimation.positionKeyFrames();
-			KeyframeStack<Keyframe<MathValue>> scaleKeyFrames = boneAnimation.scaleKeyFrames();
+		if (SharedPoseCache.isEnabled()) {
+			sharedPoseKey = SharedPoseCache.probeKey(animation, adjustedTick, useSampledTracks, animationState);
 
-			if (!rotationKeyFrames.xKeyframes().isEmpty()) {
-				boneAnimationQueue.addRotations(
-						getAnimationPointAtTick(rotationKeyFrames.xKeyframes(), animationState, adjustedTick, true, Axis.X),
-						getAnimationPointAtTick(rotationKeyFrames.yKeyframes(), animationState, adjustedTick, true, Axis.Y),
-						getAnimationPointAtTick(rotationKeyFrames.zKeyframes(), animationState, adjustedTick, true, Axis.Z));
+			if (sharedPoseKey != null) {
+				boneTick = sharedPoseKey.getTick();
+				sharedPose = SharedPoseCache.get(sharedPoseKey);
 			}
+		}
+
+		if (sharedPose != null) {
+			sharedPose.copyTo(animation, this.animationChannels, model);
+		}
+		else {
+			BoneAnimation[] boneAnimations = animation.boneAnimations();
+			int[] boneIndices = model.getBoneIndices(animation);
 
-			if (!positionKeyFrames.xKeyframes().isEmpty()) {
-				boneAnimationQueue.addPositions(
-						getAnimationPointAtTick(positionKeyFrames.xKeyframes(), animationState, adjustedTick, false, Axis.X),
-						getAnimationPointAtTick(positionKeyFrames.yKeyframes(), animationState, adjustedTick, false, Axis.Y),
-						getAnimationPointAtTick(positionKeyFrames.zKeyframes(), animationState, adjustedTick, false, Axis.Z));
+			for (int i = 0; i < boneAnimations.length; i++) {
+				BoneAnimation boneAnimation = boneAnimations[i];
+				int boneIndex = boneIndices[i];
+
+				if (boneIndex == -1)
+					continue;
+
+				int slot = this.animationChannels.getSlot(model.bones().get(boneIndex));
+
+				bufferKeyframeStack(slot, AnimationChannelBuffer.ROTATION, boneAnimation.rotationKeyFrames(), animationState, boneTick, true, useSampledTracks);
+				bufferKeyframeStack(slot, AnimationChannelBuffer.POSITION, boneAnimation.positionKeyFrames(), animationState, boneTick, false, useSampledTracks);
+				bufferKeyframeStack(slot, AnimationChannelBuffer.SCALE, boneAnimation.scaleKeyFrames(), animationState, boneTick, false, useSampledTracks);
 			}
 
-			if (!scaleKeyFrames.xKeyframes().isEmpty()) {
-				boneAnimationQueue.addScales(
-						getAnimationPointAtTick(scaleKeyFrames.xKeyframes(), animationState, adjustedTick, false, Axis.X),
-						getAnimationPointAtTick(scaleKeyFrames.yKeyframes(), animationState, adjustedTick, false, Axis.Y),
-						getAnimationPointAtTick(scaleKeyFrames.zKeyframes(), animationState, adjustedTick, false, Axis.Z));
+			if (sharedPoseKey != null) {
+				SharedPoseCache.Entry entry = SharedPoseCache.Entry.capture(animation, this.animationChannels, model);
+
+				if (entry != null)
+					SharedPoseCache.put(sharedPoseKey, entry);
 			}
 		}
 
-		adjustedTick += this.transitionLength;
+		processKeyframeEvents(animationState, adjustedTick + this.transitionLength, true);
 
-		for (SoundKeyframeData keyframeData : this.currentAnimation.animation().keyframeMarkers().sounds()) {
-			if (adjustedTick >= keyframeData.getStartTick() && this.executedKeyFrames.add(keyframeData)) {
-				if (this.soundKeyframeHandler == null) {
-					GeckoLibConstants.LOGGER.log(Level.WARN, "Sound Keyframe found for {} -> {}, but no keyframe handler registered", animationState.getData(DataTickets.ANIMATABLE_CLASS).getName(), getName());
+		if (this.transitionLength == 0 && this.shouldResetTick && this.animationState == State.TRANSITIONING)
+			this.currentAnimation = this.animationQueue.poll();
+	}
 
-					break;
-				}
+	/**
+	 * Handle any keyframe events in the current animation that have been reached by the given tick and haven't yet been handled
+	 *
+	 * @param animationState The AnimationState to pass to the keyframe event handlers
+	 * @param tick The tick to handle keyframe events up to
+	 * @param dispatch Whether to pass the events to their handlers, or just mark them as handled
+	 */
+	protected void processKeyframeEvents(AnimationState<T> animationState, double tick, boolean dispatch) {
+		KeyFrameData[] timeline = this.currentAnimation.animation().keyframeMarkers().timeline();
 
-				this.soundKeyframeHandler.handle(new KeyFrameEvent<>(animationState, this, keyframeData));
-			}
+		if (timeline != this.keyframeEventTimeline) {
+			this.keyframeEventTimeline = timeline;
+			this.keyframeEventCursor = 0;
 		}
 
-		for (ParticleKeyframeData keyframeData : this.currentAnimation.animation().keyframeMarkers().particles()) {
-			if (adjustedTick >= keyframeData.getStartTick() && this.executedKeyFrames.add(keyframeData)) {
-				if (this.particleKeyframeHandler == null) {
-					GeckoLibConstants.LOGGER.log(Level.WARN, "Particle Keyframe found for {} -> {}, but no keyframe handler registered", animationState.getData(DataTickets.ANIMATABLE_CLASS).getName(), getName());
+		while (this.keyframeEventCursor < timeline.length && timeline[this.keyframeEventCursor].getStartTick() <= tick) {
+			KeyFrameData keyframeData = timeline[this.keyframeEventCursor++];
 
-					break;
-				}
+			if (!dispatch)
+				continue;
 
-				this.particleKeyframeHandler.handle(new KeyFrameEvent<>(animationState, this, keyframeData));
+			if (keyframeData instanceof SoundKeyframeData soundKeyframeData) {
+				dispatchKeyframeEvent(animationState, this.soundKeyframeHandler, soundKeyframeData, "Sound");
+			}
+			else if (keyframeData instanceof ParticleKeyframeData particleKeyframeData) {
+				dispatchKeyframeEvent(animationState, this.particleKeyframeHandler, particleKeyframeData, "Particle");
 			}
+			else if (keyframeData instanceof CustomInstructionKeyframeData customInstructionKeyframeData) {
+				dispatchKeyframeEvent(animationState, this.customKeyframeHandler, customInstructionKeyframeData, "Custom Instruction");
+			}
+		}
+	}
+
+	private <E extends KeyFrameData> void dispatchKeyframeEvent(AnimationState<T> animationState, @Nullable KeyframeEventHandler<T, E> handler, E keyframeData, String type) {
+		if (handler == null) {
+			GeckoLibConstants.LOGGER.log(Level.WARN, "{} Keyframe found for {} -> {}, but no keyframe handler registered", type, animationState.getData(DataTickets.ANIMATABLE_CLASS).getName(), getName());
+
+			return;
 		}
 
-		for (CustomInstructionKeyframeData keyframeData : this.currentAnimation.animation().keyframeMarkers().customInstructions()) {
-			if (adjustedTick >= keyframeData.getStartTick() && this.executedKeyFrames.add(keyframeData)) {
-				if (this.customKeyframeHandler == null) {
-					GeckoLibConstants.LOGGER.log(Level.WARN, "Custom Instruction Keyframe found for {} -> {}, but no keyframe handler registered", animationState.getData(DataTickets.ANIMATABLE_CLASS).getName(), getName());
+		dispatchKeyframeEvent(handler, new KeyFrameEvent<>(animationState, this, keyframeData));
+	}
+
+	/**
+	 * Advance this controller's timeline to the given tick without computing any bone transformations or {@link MathValue Molang} values
+	 * <p>
+	 * Steps through completed loops, queued animations, and transitions (skipping the transition itself, as there is no pose to transition from),
+	 * allowing an animatable that hasn't been rendered for a while to resume from where its timeline would be, rather than jumping to it on its next render pass.
+	 * <p>
+	 * Does not run the {@link AnimationStateHandler}, so the animation being played is not changed, and uses the controller's current animation speed
+	 * <p>
+	 * Called automatically at the start of the first render pass after an animatable has gone unrendered for more than {@value #UNRENDERED_TICK_THRESHOLD} ticks,
+	 * but can also be called directly for animatables that aren't being rendered
+	 *
+	 * @param animationState The AnimationState to pass to loop types and keyframe event handlers
+	 * @param lerpedAnimationTick The current tick + partial tick for the animatable
+	 * @param fireKeyframeEvents Whether to handle the keyframe events passed along the way, or just skip them
+	 */
+	public void advanceTimeline(AnimationState<T> animationState, double lerpedAnimationTick, boolean fireKeyframeEvents) {
+		if (this.currentAnimation == null || this.shouldResetTick || this.animationState == State.STOPPED || this.animationSpeed <= 0)
+			return;
+
+		if (this.animationState == State.TRANSITIONING) {
+			if (this.animationSpeed * (lerpedAnimationTick - this.tickOffset) < this.transitionLength)
+				return;
+
+			this.tickOffset += this.transitionLength / this.animationSpeed;
+			this.animationState = State.RUNNING;
+		}
+
+		double adjustedTick = this.animationSpeed * Math.max(lerpedAnimationTick - this.tickOffset, 0);
+
+		for (int steps = 0; adjustedTick >= this.currentAnimation.animation().length(); steps++) {
+			Animation animation = this.currentAnimation.animation();
+			double length = animation.length();
+
+			processKeyframeEvents(animationState, length + this.transitionLength, fireKeyframeEvents);
+
+			if (this.currentAnimation.loopType().shouldPlayAgain(animationState, this, animation)) {
+				if (this.animationState == State.PAUSED || length <= 0)
+					return;
+
+				if (steps >= MAX_TIMELINE_STEPS) {
+					double skippedLoops = Math.floor(adjustedTick / length);
+
+					this.tickOffset += skippedLoops * length / this.animationSpeed;
+					adjustedTick -= skippedLoops * length;
+
+					resetEventKeyFrames();
 
 					break;
 				}
+			}
+			else {
+				AnimationProcessor.QueuedAnimation nextAnimation = this.animationQueue.poll();
+
+				if (nextAnimation == null) {
+					this.animationState = State.STOPPED;
+
+					return;
+				}
 
-				this.customKeyframeHandler.handle(new KeyFrameEvent<>(animationState, this, keyframeData));
+				this.currentAnimation = nextAnimation;
 			}
+
+			resetEventKeyFrames();
+
+			this.tickOffset += length / this.animationSpeed;
+			adjustedTick -= length;
 		}
 
-		if (this.transitionLength == 0 && this.shouldResetTick && this.animationState == State.TRANSITIONING)
-			this.currentAnimation = this.animationQueue.poll();
+		processKeyframeEvents(animationState, adjustedTick + this.transitionLength, fireKeyframeEvents);
 	}
 
 	/**
-	 * Prepare the {@link BoneAnimationQueue} map for the current render frame
-	 *
-	 * @param modelRendererList The bone list from the {@link AnimationProcessor}
+	 * Pass a triggered keyframe event to its handler, or hold onto it for later if this controller is currently deferring its events
 	 */
-	private void createInitialQueues(Collection<GeoBone> modelRendererList) {
-		this.boneAnimationQueues.clear();
-
-		for (GeoBone modelRenderer : modelRendererList) {
-			this.boneAnimationQueues.put(modelRenderer.getName(), new BoneAnimationQueue(modelRenderer));
+	protected <E extends KeyFrameData> void dispatchKeyframeEvent(KeyframeEventHandler<T, E> handler, KeyFrameEvent<T, E> event) {
+		if (this.deferredKeyframeEvents != null) {
+			this.deferredKeyframeEvents.add(() -> handler.handle(event));
+		}
+		else {
+			handler.handle(event);
 		}
 	}
 
+	/**
+	 * Set the collection that triggered keyframe events should be deferred to, or null to handle them immediately
+	 *
+	 * @see AnimationEvaluator
+	 */
+	@ApiStatus.Internal
+	public void deferKeyframeEvents(@Nullable List<Runnable> eventSink) {
+		this.deferredKeyframeEvents = eventSink;
+	}
+
 	/**
 	 * Cache the relevant {@link BoneSnapshot BoneSnapshots} for the current {@link AnimationProcessor.QueuedAnimation}
 	 * for animation lerping
 	 *
 	 * @param animation The {@code QueuedAnimation} to filter {@code BoneSnapshots} for
-	 * @param snapshots The master snapshot collection to pull filter from
+	 * @param model The {@link BakedGeoModel} currently being animated
+	 * @param snapshots The master snapshot collection to pull filter from, indexed by bone index
 	 */
-	private void saveSnapshotsForAnimation(AnimationProcessor.QueuedAnimation animation, Map<String, BoneSnapshot> snapshots) {
-		for (BoneSnapshot snapshot : snapshots.values()) {
-			if (animation.animation().boneAnimations() != null) {
-				for (BoneAnimation boneAnimation : animation.animation().boneAnimations()) {
-					if (boneAnimation.boneName().equals(snapshot.getBone().getName())) {
-						this.boneSnapshots.put(boneAnimation.boneName(), BoneSnapshot.copy(snapshot));
+	private void saveSnapshotsForAnimation(AnimationProcessor.QueuedAnimation animation, BakedGeoModel model, BoneSnapshot[] snapshots) {
+		if (this.boneSnapshots.length != snapshots.length)
+			this.boneSnapshots = new BoneSnapshot[snapshots.length];
 
-						break;
-					}
-				}
-			}
+		for (int boneIndex : model.getBoneIndices(animation.animation())) {
+			if (boneIndex != -1)
+				this.boneSnapshots[boneIndex] = BoneSnapshot.copy(snapshots[boneIndex]);
 		}
 	}
 
@@ -794,59 +962,129 @@ public class AnimationController<T extends GeoAnimatable> {
 	}
 
 	/**
-	 * Convert a {@link KeyframeLocation} to an {@link AnimationPoint}
+	 * Compute and buffer the animation points for all three axes of a {@link KeyframeStack} at the given tick,
+	 * using the stack's {@link KeyframeSamples pre-sampled values} if available
+	 * <p>
+	 * {@link KeyframeStack#isInterleaved() Interleaved} stacks resolve their active keyframe once for all three axes
 	 */
-	private AnimationPoint getAnimationPointAtTick(List<Keyframe<MathValue>> frames, AnimationState<?> animationState, double tick, boolean isRotation, Axis axis) {
-		KeyframeLocation<Keyframe<MathValue>> location = getCurrentKeyFrameLocation(frames, tick);
-		Keyframe<MathValue> currentFrame = location.keyframe();
-		double startValue = currentFrame.startValue().get(animationState);
-		double endValue = currentFrame.endValue().get(animationState);
+	private void bufferKeyframeStack(int slot, int channel, KeyframeStack<Keyframe<MathValue>> keyframes, AnimationState<?> animationState, double tick, boolean isRotation, boolean useSampledTracks) {
+		if (keyframes.xKeyframes().isEmpty())
+			return;
 
-		if (isRotation) {
-			if (!(currentFrame.startValue() instanceof Constant)) {
-				startValue = Math.toRadians(startValue);
+		KeyframeSamples samples = keyframes.samples();
 
-				if (axis == Axis.X || axis == Axis.Y)
-					startValue *= -1;
-			}
+		if (useSampledTracks && samples != null) {
+			bufferSampledPoint(slot, channel, 0, samples.xSamples(), samples.interval(), tick);
+			bufferSampledPoint(slot, channel, 1, samples.ySamples(), samples.interval(), tick);
+			bufferSampledPoint(slot, channel, 2, samples.zSamples(), samples.interval(), tick);
+			this.animationChannels.markInterleaved(slot, channel);
 
-			if (!(currentFrame.endValue() instanceof Constant)) {
-				endValue = Math.toRadians(endValue);
+			return;
+		}
 
-				if (axis == Axis.X || axis == Axis.Y)
-					endValue *= -1;
-			}
+		if (keyframes.isInterleaved()) {
+			double[] startTimes = keyframes.xStartTimes();
+			int frameIndex = KeyframeStack.findKeyframeIndex(startTimes, tick, this.animationChannels.getKeyframeCursor(slot, channel, 0));
+
+			if (frameIndex != -1)
+				this.animationChannels.setKeyframeCursor(slot, channel, 0, frameIndex);
+
+			bufferPoint(slot, channel, Axis.X, keyframes.xKeyframes(), startTimes, frameIndex, animationState, tick, isRotation);
+			bufferPoint(slot, channel, Axis.Y, keyframes.yKeyframes(), startTimes, frameIndex, animationState, tick, isRotation);
+			bufferPoint(slot, channel, Axis.Z, keyframes.zKeyframes(), startTimes, frameIndex, animationState, tick, isRotation);
+			this.animationChannels.markInterleaved(slot, channel);
+
+			return;
 		}
 
-		return new AnimationPoint(currentFrame, location.startTick(), currentFrame.length(), startValue, endValue);
+		bufferPointAtTick(slot, channel, Axis.X, keyframes.xKeyframes(), keyframes.xStartTimes(), animationState, tick, isRotation);
+		bufferPointAtTick(slot, channel, Axis.Y, keyframes.yKeyframes(), keyframes.yStartTimes(), animationState, tick, isRotation);
+		bufferPointAtTick(slot, channel, Axis.Z, keyframes.zKeyframes(), keyframes.zStartTimes(), animationState, tick, isRotation);
 	}
 
 	/**
-	 * Returns the {@link Keyframe} relevant to the current tick time
+	 * Buffer a linearly-interpolated animation point between the two samples nearest to the given tick
+	 */
+	private void bufferSampledPoint(int slot, int channel, int axis, float[] samples, double interval, double tick) {
+		double position = tick / interval;
+		int index = (int)position;
+
+		if (index >= samples.length - 1) {
+			float lastValue = samples[samples.length - 1];
+
+			this.animationChannels.setPoint(slot, channel, axis, null, 1, 1, lastValue, lastValue);
+		}
+		else {
+			this.animationChannels.setPoint(slot, channel, axis, null, position - index, 1, samples[index], samples[index + 1]);
+		}
+	}
+
+	/**
+	 * Find the {@link Keyframe} relevant to the given tick time, then compute and store its values in the {@link AnimationChannelBuffer}
+	 */
+	private void bufferPointAtTick(int slot, int channel, Axis axis, List<Keyframe<MathValue>> frames, double[] startTimes, AnimationState<?> animationState, double tick, boolean isRotation) {
+		int axisIndex = axis.ordinal();
+		int frameIndex = KeyframeStack.findKeyframeIndex(startTimes, tick, this.animationChannels.getKeyframeCursor(slot, channel, axisIndex));
+
+		if (frameIndex != -1)
+			this.animationChannels.setKeyframeCursor(slot, channel, axisIndex, frameIndex);
+
+		bufferPoint(slot, channel, axis, frames, startTimes, frameIndex, animationState, tick, isRotation);
+	}
+
+	/**
+	 * Compute and store the values of the {@link Keyframe} at the given index in the {@link AnimationChannelBuffer}
 	 *
-	 * @param frames The list of {@code KeyFrames} to filter through
-	 * @param ageInTicks The current tick time
-	 * @return A new {@code KeyFrameLocation} containing the current {@code KeyFrame} and the tick time used to find it
+	 * @param frameIndex The index of the keyframe active at the given tick, or -1 if the tick is beyond the end of the final keyframe
+	 */
+	private void bufferPoint(int slot, int channel, Axis axis, List<Keyframe<MathValue>> frames, double[] startTimes, int frameIndex, AnimationState<?> animationState, double tick, boolean isRotation) {
+		Keyframe<MathValue> currentFrame = frameIndex == -1 ? frames.getLast() : frames.get(frameIndex);
+		double frameTick = frameIndex == -1 ? tick : tick - startTimes[frameIndex];
+
+		this.animationChannels.setPoint(slot, channel, axis.ordinal(), currentFrame, frameTick, currentFrame.length(),
+										computeKeyframeValue(currentFrame.startValue(), animationState, isRotation, axis),
+										computeKeyframeValue(currentFrame.endValue(), animationState, isRotation, axis));
+	}
+
+	/**
+	 * Store a transition point in the {@link AnimationChannelBuffer}, lerping from the given start value to the start of the animation
 	 */
-	private KeyframeLocation<Keyframe<MathValue>> getCurrentKeyFrameLocation(List<Keyframe<MathValue>> frames,
-																			 double ageInTicks) {
-		double totalFrameTime = 0;
+	private void bufferTransitionPoint(int slot, int channel, Axis axis, List<Keyframe<MathValue>> frames, AnimationState<?> animationState, double startValue, boolean isRotation) {
+		Keyframe<MathValue> firstFrame = frames.getLast();
 
 		for (Keyframe<MathValue> frame : frames) {
-			totalFrameTime += frame.length();
+			if (frame.length() > 0) {
+				firstFrame = frame;
+
+				break;
+			}
+		}
+
+		this.animationChannels.setPoint(slot, channel, axis.ordinal(), null, this.processedAnimationTick, this.transitionLength, startValue,
+										computeKeyframeValue(firstFrame.startValue(), animationState, isRotation, axis));
+	}
+
+	/**
+	 * Compute the value of a {@link Keyframe}'s {@link MathValue}, converting non-constant rotation values to radians as needed
+	 */
+	private static double computeKeyframeValue(MathValue value, AnimationState<?> animationState, boolean isRotation, Axis axis) {
+		double result = value.get(animationState);
+
+		if (isRotation && !(value instanceof Constant)) {
+			result = Math.toRadians(result);
 
-			if (totalFrameTime > ageInTicks)
-				return new KeyframeLocation<>(frame, (ageInTicks - (totalFrameTime - frame.length())));
+			if (axis == Axis.X || axis == Axis.Y)
+				result *= -1;
 		}
 
-		return new KeyframeLocation<>(frames.getLast(), ageInTicks);
+		return result;
 	}
 
 	/**
-	 * Clear the {@link KeyFrameData} cache in preparation for the next animation
+	 * Rewind the keyframe event cursor in preparation for the next animation or loop
 	 */
 	private void resetEventKeyFrames() {
-		this.executedKeyFrames.clear();
+		this.keyframeEventCursor = 0;
 	}
 
 	/**
@@ -0,0 +1,294 @@
+package software.bernie.geckolib.animatable.processing;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.ApiStatus;
+import software.bernie.geckolib.animatable.GeoAnimatable;
+import software.bernie.geckolib.animatable.manager.AnimatableManager;
+import software.bernie.geckolib.animation.Animation;
+import software.bernie.geckolib.animation.keyframe.BoneAnimation;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
+import software.bernie.geckolib.cache.GeckoLibResources;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.loading.object.BakedAnimations;
+import software.bernie.geckolib.model.GeoModel;
+import software.bernie.geckolib.renderer.base.GeoRenderState;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Optional batched evaluation phase for animation poses
+ * <p>
+ * For callers that fill the {@link GeoRenderState GeoRenderStates} for several animatables before drawing any of them, such as custom batch renderers.
+ * Each animatable's work is {@link #queue queued} once its render state has been filled, and the queued poses are then computed together into each
+ * instance's {@link BonePoseBuffer} by {@link #evaluateQueued()} before the first of them is drawn, spreading the work across the
+ * {@link ForkJoinPool#commonPool() common pool} when there is enough of it to be worth doing so. The render pass then uses the pre-computed pose instead of evaluating it inline.
+ * <p>
+ * GeckoLib's own renderers don't use this phase, as each entity is extracted and then drawn straight away, leaving no point at which a batch could build up.
+ * <p>
+ * Each queued job only writes to its own {@link AnimatableManager}'s controllers and pose buffer, and only reads the state shared through its
+ * {@link AnimationProcessor}, so the computed poses are identical to the ones computed inline at render time. Keyframe events triggered during a
+ * parallel evaluation are collected and then dispatched on the calling thread in the order the jobs were queued, after all poses have been computed.
+ * <p>
+ * Jobs that can't safely be evaluated in isolation are skipped, and are instead evaluated at render time as normal. This covers:
+ * <ul>
+ *     <li>The same instance queued more than once</li>
+ *     <li>A model switching between baked models, or with a pending animation reload</li>
+ *     <li>A model that overrides {@link GeoModel#applyMolangQueries}, as the global {@link software.bernie.geckolib.loading.math.value.Variable Variables}
+ *     it sets would otherwise hold the values of the last instance queued</li>
+ *     <li>A model with animations that aren't {@link BoneAnimation#isSideEffectFree() free of side effects}, such as variable assignments or random values,
+ *     as these read and write global state that would otherwise be shared between threads</li>
+ * </ul>
+ */
+public final class AnimationEvaluator {
+	private static final List<Job<?>> QUEUE = new ObjectArrayList<>();
+	private static final ClassValue<Boolean> APPLIES_MOLANG_QUERIES = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> modelClass) {
+			try {
+				return modelClass.getMethod("applyMolangQueries", GeoAnimatable.class).getDeclaringClass() != GeoModel.class;
+			}
+			catch (NoSuchMethodException ex) {
+				return true;
+			}
+		}
+	};
+	private static final Reference2BooleanOpenHashMap<BakedAnimations> SIDE_EFFECT_FREE_ANIMATIONS = new Reference2BooleanOpenHashMap<>();
+	private static int sideEffectFreeGeneration = -1;
+	private static int parallelThreshold = 8;
+
+	private AnimationEvaluator() {}
+
+	/**
+	 * Set the minimum number of queued jobs required before evaluation is split across multiple threads
+	 * <p>
+	 * Batches smaller than this are evaluated on the calling thread, as the overhead of dispatching the work would outweigh any gains
+	 */
+	public static void setParallelThreshold(int threshold) {
+		parallelThreshold = Math.max(2, threshold);
+	}
+
+	/**
+	 * Queue an animation pose evaluation for the next call to {@link #evaluateQueued()}
+	 * <p>
+	 * The {@link AnimationState} must be for a render state that has already been filled by its renderer.<br>
+	 * Each queued render state must be a separate instance, and it and the {@code AnimationState} must not be modified or re-filled until after that point
+	 *
+	 * @param model The model the animatable is rendered with
+	 * @param animatable The animatable the render state was filled for
+	 * @param animationState The AnimationState for the animatable's upcoming render pass
+	 */
+	public static <T extends GeoAnimatable> void queue(GeoModel<T> model, T animatable, AnimationState<T> animationState) {
+		QUEUE.add(new Job<>(model, animatable, animationState));
+	}
+
+	/**
+	 * Evaluate all currently queued animation poses, marking each successfully computed pose as {@link BonePoseBuffer#markPreEvaluated() pre-evaluated}
+	 * <p>
+	 * Should be called on the render thread once all render states for the batch have been filled, before the first of them is drawn
+	 */
+	public static void evaluateQueued() {
+		if (QUEUE.isEmpty())
+			return;
+
+		List<Job<?>> jobs = collectIsolatedJobs(QUEUE);
+
+		QUEUE.clear();
+		evaluate(jobs, jobs.size() >= parallelThreshold);
+	}
+
+	/**
+	 * Evaluate the given jobs, either in turn on the calling thread or split across the common pool
+	 */
+	private static void evaluate(List<Job<?>> jobs, boolean parallel) {
+		if (!parallel) {
+			for (Job<?> job : jobs) {
+				job.evaluate();
+			}
+
+			return;
+		}
+
+		for (Job<?> job : jobs) {
+			job.deferEvents();
+		}
+
+		try {
+			ForkJoinPool.commonPool().invoke(new EvaluationTask(jobs, 0, jobs.size()));
+		}
+		finally {
+			for (Job<?> job : jobs) {
+				job.dispatchEvents();
+			}
+		}
+	}
+
+	/**
+	 * Filter the given jobs down to the ones that can be evaluated independently of one another, and activate the baked model for each of them
+	 */
+	private static List<Job<?>> collectIsolatedJobs(List<Job<?>> queued) {
+		Reference2IntOpenHashMap<AnimatableManager<?>> managerCounts = new Reference2IntOpenHashMap<>(queued.size());
+		Map<AnimationProcessor<?>, BakedGeoModel> processorModels = new Reference2ObjectOpenHashMap<>();
+		Map<AnimationProcessor<?>, Boolean> isolatedProcessors = new Reference2ObjectOpenHashMap<>();
+		List<Job<?>> jobs = new ObjectArrayList<>(queued.size());
+
+		for (Job<?> job : queued) {
+			AnimationProcessor<?> processor = job.model.getAnimationProcessor();
+			BakedGeoModel bakedModel = job.resolveBakedModel();
+			BakedGeoModel existingModel = processorModels.putIfAbsent(processor, bakedModel);
+
+			managerCounts.addTo(job.animationState.manager(), 1);
+			isolatedProcessors.merge(processor, !processor.reloadAnimations && (existingModel == null || existingModel == bakedModel), Boolean::logicalAnd);
+		}
+
+		for (Job<?> job : queued) {
+			if (managerCounts.getInt(job.animationState.manager()) == 1 && isolatedProcessors.get(job.model.getAnimationProcessor()) && !job.touchesGlobalVariables()) {
+				job.resolveBakedModel();
+				jobs.add(job);
+			}
+		}
+
+		return jobs;
+	}
+
+	/**
+	 * Whether all animations in the given {@link BakedAnimations} are {@link BoneAnimation#isSideEffectFree() free of side effects}
+	 * <p>
+	 * Cached per animation file until the next resource reload
+	 */
+	private static boolean isSideEffectFree(BakedAnimations bakedAnimations) {
+		synchronized (SIDE_EFFECT_FREE_ANIMATIONS) {
+			int reloadGeneration = GeckoLibResources.getReloadGeneration();
+
+			if (reloadGeneration != sideEffectFreeGeneration) {
+				SIDE_EFFECT_FREE_ANIMATIONS.clear();
+				sideEffectFreeGeneration = reloadGeneration;
+			}
+
+			if (SIDE_EFFECT_FREE_ANIMATIONS.containsKey(bakedAnimations))
+				return SIDE_EFFECT_FREE_ANIMATIONS.getBoolean(bakedAnimations);
+
+			boolean sideEffectFree = true;
+
+			for (Animation animation : bakedAnimations.animations().values()) {
+				for (BoneAnimation boneAnimation : animation.boneAnimations()) {
+					sideEffectFree &= boneAnimation.isSideEffectFree();
+				}
+			}
+
+			SIDE_EFFECT_FREE_ANIMATIONS.put(bakedAnimations, sideEffectFree);
+
+			return sideEffectFree;
+		}
+	}
+
+	private static final class Job<T extends GeoAnimatable> {
+		private final GeoModel<T> model;
+		private final T animatable;
+		private final AnimationState<T> animationState;
+		private List<Runnable> deferredEvents = null;
+
+		private Job(GeoModel<T> model, T animatable, AnimationState<T> animationState) {
+			this.model = model;
+			this.animatable = animatable;
+			this.animationState = animationState;
+		}
+
+		private BakedGeoModel resolveBakedModel() {
+			return this.model.getBakedModel(this.model.getModelResource(this.animationState.renderState()));
+		}
+
+		/**
+		 * Whether this job's model sets or could change global {@link software.bernie.geckolib.loading.math.value.Variable Variables},
+		 * either through {@link GeoModel#applyMolangQueries} or from any of the animations it could play
+		 */
+		private boolean touchesGlobalVariables() {
+			if (APPLIES_MOLANG_QUERIES.get(this.model.getClass()))
+				return true;
+
+			Map<ResourceLocation, BakedAnimations> animations = GeckoLibResources.getBakedAnimations();
+
+			if (!isSideEffectFree(animations, this.model.getAnimationResource(this.animatable)))
+				return true;
+
+			for (ResourceLocation fallback : this.model.getAnimationResourceFallbacks(this.animatable)) {
+				if (!isSideEffectFree(animations, fallback))
+					return true;
+			}
+
+			return false;
+		}
+
+		private static boolean isSideEffectFree(Map<ResourceLocation, BakedAnimations> animations, ResourceLocation location) {
+			BakedAnimations bakedAnimations = animations.get(location);
+
+			if (bakedAnimations == null)
+				bakedAnimations = animations.get(GeckoLibResources.stripPrefixAndSuffix(location));
+
+			return bakedAnimations == null || AnimationEvaluator.isSideEffectFree(bakedAnimations);
+		}
+
+		private void deferEvents() {
+			this.deferredEvents = new ObjectArrayList<>(0);
+
+			for (AnimationController<T> controller : this.animationState.manager().getAnimationControllers().values()) {
+				controller.deferKeyframeEvents(this.deferredEvents);
+			}
+		}
+
+		private void evaluate() {
+			AnimationProcessor<T> processor = this.model.getAnimationProcessor();
+
+			if (processor.getRegisteredBones().isEmpty())
+				return;
+
+			processor.tickAnimation(this.animationState);
+			this.animationState.manager().getPoseBuffer().markPreEvaluated();
+		}
+
+		private void dispatchEvents() {
+			for (AnimationController<T> controller : this.animationState.manager().getAnimationControllers().values()) {
+				controller.deferKeyframeEvents(null);
+			}
+
+			for (Runnable event : this.deferredEvents) {
+				event.run();
+			}
+
+			this.deferredEvents = null;
+		}
+	}
+
+	private static final class EvaluationTask extends RecursiveAction {
+		private final List<Job<?>> jobs;
+		private final int start;
+		private final int end;
+
+		private EvaluationTask(List<Job<?>> jobs, int start, int end) {
+			this.jobs = jobs;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.end - this.start <= 2) {
+				for (int i = this.start; i < this.end; i++) {
+					this.jobs.get(i).evaluate();
+				}
+
+				return;
+			}
+
+			int middle = (this.start + this.end) >>> 1;
+
+			invokeAll(new EvaluationTask(this.jobs, this.start, middle), new EvaluationTask(this.jobs, middle, this.end));
+		}
+	}
+}
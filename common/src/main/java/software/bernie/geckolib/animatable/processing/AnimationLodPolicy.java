@@ -0,0 +1,121 @@
+package software.bernie.geckolib.animatable.processing;
+
+import org.jetbrains.annotations.Nullable;
+import software.bernie.geckolib.constant.DataTickets;
+import software.bernie.geckolib.renderer.base.GeoRenderer;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Distance-based level-of-detail policy for animation evaluation
+ * <p>
+ * Each {@link Level} applies beyond a given distance from the camera, and reduces how often an animatable's {@link AnimationController AnimationControllers}
+ * are evaluated, either to every Nth frame or to a fixed tick rate. Between evaluations, the last computed pose is re-used as-is.
+ * <p>
+ * Policies are immutable, and can be set globally via {@link #setDefaultPolicy}, or per-renderer via {@link GeoRenderer#getAnimationLodPolicy}.<br>
+ * Individual controllers can opt out via {@link AnimationController#ignoreAnimationLod()}
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * AnimationLodPolicy.setDefaultPolicy(AnimationLodPolicy.NONE.everyNthFrame(32, 2).everyNthFrame(64, 4).atTickRate(96, 5));
+ * }</pre>
+ */
+public final class AnimationLodPolicy {
+	/**
+	 * A policy with no levels, always evaluating animations at full rate
+	 */
+	public static final AnimationLodPolicy NONE = new AnimationLodPolicy(new Level[0]);
+
+	private static AnimationLodPolicy defaultPolicy = NONE;
+
+	private final Level[] levels;
+
+	private AnimationLodPolicy(Level[] levels) {
+		this.levels = levels;
+	}
+
+	/**
+	 * Set the policy used by all GeckoLib renderers that don't provide their own
+	 * <p>
+	 * Defaults to {@link #NONE}
+	 */
+	public static void setDefaultPolicy(AnimationLodPolicy policy) {
+		defaultPolicy = policy;
+	}
+
+	public static AnimationLodPolicy getDefaultPolicy() {
+		return defaultPolicy;
+	}
+
+	/**
+	 * Create a copy of this policy with an additional level, evaluating animations only every {@code frameInterval} frames beyond the given distance
+	 *
+	 * @param minDistance The distance (in blocks) from the camera this level applies beyond
+	 * @param frameInterval The number of frames between each evaluation
+	 */
+	public AnimationLodPolicy everyNthFrame(double minDistance, int frameInterval) {
+		return withLevel(new Level(minDistance, Math.max(1, frameInterval), 0));
+	}
+
+	/**
+	 * Create a copy of this policy with an additional level, evaluating animations at most once every {@code tickInterval} ticks beyond the given distance
+	 *
+	 * @param minDistance The distance (in blocks) from the camera this level applies beyond
+	 * @param tickInterval The minimum amount of time (in ticks) between each evaluation
+	 */
+	public AnimationLodPolicy atTickRate(double minDistance, double tickInterval) {
+		return withLevel(new Level(minDistance, 1, Math.max(0, tickInterval)));
+	}
+
+	private AnimationLodPolicy withLevel(Level level) {
+		Level[] levels = Arrays.copyOf(this.levels, this.levels.length + 1);
+		levels[this.levels.length] = level;
+
+		Arrays.sort(levels, Comparator.comparingDouble(Level::minDistance));
+
+		return new AnimationLodPolicy(levels);
+	}
+
+	/**
+	 * Get the {@link Level} that applies at the given distance from the camera
+	 *
+	 * @param distance The distance (in blocks) from the camera, as stored in {@link DataTickets#CAMERA_DISTANCE}
+	 * @return The furthest level that applies at the given distance, or null if animations should be evaluated at full rate
+	 */
+	@Nullable
+	public Level getLevel(double distance) {
+		Level level = null;
+
+		for (Level candidate : this.levels) {
+			if (distance < candidate.minDistance)
+				break;
+
+			level = candidate;
+		}
+
+		return level;
+	}
+
+	/**
+	 * A single level-of-detail step
+	 *
+	 * @param minDistance The distance (in blocks) from the camera this level applies beyond
+	 * @param frameInterval The number of frames between each evaluation
+	 * @param tickInterval The minimum amount of time (in ticks) between each evaluation
+	 */
+	public record Level(double minDistance, int frameInterval, double tickInterval) {
+		/**
+		 * Whether an animatable should be evaluated this frame
+		 *
+		 * @param frame The number of frames the animatable has been animated for, offset per-instance to stagger evaluations across instances
+		 * @param ticksSinceEvaluation The amount of time (in ticks) since the animatable was last evaluated
+		 */
+		public boolean shouldEvaluate(int frame, double ticksSinceEvaluation) {
+			if (this.frameInterval > 1 && Math.floorMod(frame, this.frameInterval) != 0)
+				return false;
+
+			return ticksSinceEvaluation >= this.tickInterval;
+		}
+	}
+}
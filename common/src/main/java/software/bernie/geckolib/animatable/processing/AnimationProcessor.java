@@ -1,36 +1,53 @@
 package software.bernie.geckolib.animatable.processing;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Reference2DoubleMap;
-import it.unimi.dsi.fastutil.objects.Reference2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.Mth;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
 import org.apache.commons.lang3.mutable.MutableObject;
+import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.GeckoLibConstants;
 import software.bernie.geckolib.animatable.GeoAnimatable;
 import software.bernie.geckolib.animatable.manager.AnimatableManager;
 import software.bernie.geckolib.animation.Animation;
 import software.bernie.geckolib.animation.EasingType;
 import software.bernie.geckolib.animation.RawAnimation;
-import software.bernie.geckolib.animation.keyframe.AnimationPoint;
-import software.bernie.geckolib.animation.keyframe.BoneAnimationQueue;
+import software.bernie.geckolib.animation.keyframe.AnimationChannelBuffer;
+import software.bernie.geckolib.animation.keyframe.Keyframe;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
 import software.bernie.geckolib.animation.state.BoneSnapshot;
+import software.bernie.geckolib.animation.state.QueryValueBuffer;
+import software.bernie.geckolib.cache.GeckoLibResources;
 import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.cache.object.GeoBone;
 import software.bernie.geckolib.constant.DataTickets;
+import software.bernie.geckolib.loading.math.MathValue;
 import software.bernie.geckolib.loading.math.MolangQueries;
-import software.bernie.geckolib.loading.math.value.Variable;
 import software.bernie.geckolib.model.GeoModel;
 import software.bernie.geckolib.renderer.base.GeoRenderState;
 import software.bernie.geckolib.util.ClientUtil;
 
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 
 public class AnimationProcessor<T extends GeoAnimatable> {
-	private final Map<String, GeoBone> bones = new Object2ObjectOpenHashMap<>();
+	private final Map<BakedGeoModel, Map<String, GeoBone>> boneRegistries = new Reference2ObjectOpenHashMap<>();
+	private int boneRegistryGeneration = -1;
+	private Map<String, GeoBone> bones = new Object2ObjectOpenHashMap<>();
+	private List<GeoBone> boneList = List.of();
+	@Nullable
+	private BakedGeoModel activeModel = null;
 	private final GeoModel<T> model;
+	private final Map<AnimationQueueKey, QueuedAnimation[]> animationQueueCache = new Object2ObjectOpenHashMap<>();
+	private int animationQueueCacheGeneration = -1;
 
 	public boolean reloadAnimations = false;
 
@@ -48,25 +65,87 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 	 * @param model The GeoModel tasked for the upcoming render pass
 	 */
 	public void prepareForRenderPass(T animatable, AnimatableManager<T> animatableManager, GeoRenderState renderState, double lerpedAnimationTick, GeoModel<T> model) {
-		MolangQueries.Actor<T> actor = new MolangQueries.Actor<>(animatable, renderState, new MutableObject<>(), lerpedAnimationTick, renderState.getGeckolibData(DataTickets.PARTIAL_TICK), ClientUtil.getLevel(), ClientUtil.getClientPlayer(), ClientUtil.getCameraPos());
-		Reference2DoubleMap<Variable> variables = new Reference2DoubleOpenHashMap<>();
+		prepareForRenderPass(animatable, animatableManager, renderState, lerpedAnimationTick, model, ClientUtil.getLevel(), ClientUtil.getClientPlayer(), ClientUtil.getCameraPos());
+	}
 
-		renderState.addGeckolibData(DataTickets.QUERY_VALUES, variables);
+	/**
+	 * Perform the necessary prepations for the upcoming render pass, using the given world context instead of the client's
+	 *
+	 * @param animatable The animatable relevant to the upcoming render pass
+	 * @param animatableManager The manager instance for the animatable for the upcoming render pass
+	 * @param renderState The {@link GeoRenderState} being built for the upcoming render pass
+	 * @param lerpedAnimationTick The current tick + partial tick for the animatable
+	 * @param model The GeoModel tasked for the upcoming render pass
+	 * @param level The level the animatable is in, for Molang queries
+	 * @param player The player to use for player-relative Molang queries, if any
+	 * @param cameraPos The position to use for camera-relative Molang queries
+	 * @see HeadlessPoseEvaluator
+	 */
+	public void prepareForRenderPass(T animatable, AnimatableManager<T> animatableManager, GeoRenderState renderState, double lerpedAnimationTick, GeoModel<T> model,
+									 Level level, @Nullable Player player, Vec3 cameraPos) {
+		MolangQueries.Actor<T> actor = new MolangQueries.Actor<>(animatable, renderState, new MutableObject<>(), lerpedAnimationTick, renderState.getGeckolibData(DataTickets.PARTIAL_TICK), level, player, cameraPos);
+		QueryValueBuffer queryValues = renderState.getGeckolibData(DataTickets.QUERY_VALUES);
+
+		// Reuse the buffer from the render state's previous pass if it has one, so that the values stay valid for as long as the render state does
+		if (queryValues != null) {
+			queryValues.clear();
+		}
+		else {
+			renderState.addGeckolibData(DataTickets.QUERY_VALUES, queryValues = new QueryValueBuffer());
+		}
 
 		for (AnimationController<T> controller : animatableManager.getAnimationControllers().values()) {
 			actor.controller().setValue(controller);
-			controller.prepareForRenderPass(animatable, animatableManager, actor, variables, lerpedAnimationTick, model);
+			controller.prepareForRenderPass(animatable, animatableManager, actor, queryValues, lerpedAnimationTick, model);
 		}
 	}
 
 	/**
 	 * Build an animation queue for the given {@link RawAnimation}
+	 * <p>
+	 * The resolved animations are cached per {@link GeoModel#getAnimationResource animation resource} and {@link RawAnimation#intern() interned} RawAnimation,
+	 * and discarded on resource reload
+	 * <p>
+	 * Synchronized on the cache, as controllers of different animatables sharing this processor may be evaluated concurrently by the {@link AnimationEvaluator}
 	 *
 	 * @param animatable The {@link GeoAnimatable} for the upcoming render pass
 	 * @param rawAnimation The raw animation to be compiled
 	 * @return A queue of animations and loop types to play
 	 */
 	public Queue<QueuedAnimation> buildAnimationQueue(T animatable, RawAnimation rawAnimation) {
+		QueuedAnimation[] animations;
+
+		synchronized (this.animationQueueCache) {
+			int reloadGeneration = GeckoLibResources.getReloadGeneration();
+
+			if (reloadGeneration != this.animationQueueCacheGeneration) {
+				this.animationQueueCache.clear();
+				this.animationQueueCacheGeneration = reloadGeneration;
+			}
+
+			AnimationQueueKey key = new AnimationQueueKey(this.model.getAnimationResource(animatable), rawAnimation.intern());
+			animations = this.animationQueueCache.get(key);
+
+			if (animations == null) {
+				Queue<QueuedAnimation> resolvedAnimations = resolveAnimationQueue(animatable, key.rawAnimation());
+
+				if (resolvedAnimations == null)
+					return null;
+
+				this.animationQueueCache.put(key, animations = resolvedAnimations.toArray(new QueuedAnimation[0]));
+			}
+		}
+
+		return new LinkedList<>(Arrays.asList(animations));
+	}
+
+	/**
+	 * Resolve each stage of the given {@link RawAnimation} into its {@link Animation} via the model's animation resource fallback chain
+	 *
+	 * @return A queue of animations and loop types to play, or null if an error occurred retrieving any of the animations
+	 */
+	@Nullable
+	protected Queue<QueuedAnimation> resolveAnimationQueue(T animatable, RawAnimation rawAnimation) {
 		LinkedList<QueuedAnimation> animations = new LinkedList<>();
 		boolean error = false;
 
@@ -97,77 +176,140 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 	}
 
 	/**
-	 * Tick and apply transformations to the model based on the current state of the {@link AnimationController}
+	 * Whether the current render pass should re-use the previously computed pose rather than evaluating its controllers,
+	 * based on the {@link AnimationLodPolicy} level applied by the renderer
+	 */
+	protected boolean shouldSkipForLod(AnimationState<T> animationState, BonePoseBuffer pose) {
+		AnimationLodPolicy.Level lodLevel = animationState.getDataOrDefault(DataTickets.ANIMATION_LOD, null);
+
+		if (lodLevel == null || this.reloadAnimations || !pose.isLaidOutFor(this.boneList))
+			return false;
+
+		AnimatableManager<T> animatableManager = animationState.manager();
+
+		if (animatableManager.isFirstTick())
+			return false;
+
+		return !animatableManager.shouldEvaluateAnimationLod(lodLevel, animationState.getData(DataTickets.ANIMATABLE_INSTANCE_ID), animationState.getData(DataTickets.ANIMATION_TICKS));
+	}
+
+	private static boolean hasControllersIgnoringLod(AnimatableManager<?> animatableManager) {
+		for (AnimationController<?> controller : animatableManager.getAnimationControllers().values()) {
+			if (controller.isIgnoringAnimationLod())
+				return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Keep the previously computed transformations for the bones animated by a controller skipped this frame
+	 */
+	private static void retainPose(AnimationChannelBuffer channels, BonePoseBuffer pose) {
+		BitSet activeSlots = channels.getActiveSlots();
+
+		for (int slot = activeSlots.nextSetBit(0); slot >= 0; slot = activeSlots.nextSetBit(slot + 1)) {
+			pose.retain(slot, channels.hasChannel(slot, AnimationChannelBuffer.ROTATION), channels.hasChannel(slot, AnimationChannelBuffer.POSITION), channels.hasChannel(slot, AnimationChannelBuffer.SCALE));
+		}
+	}
+
+	/**
+	 * Tick and compute the transformations for the model based on the current state of the {@link AnimationController AnimationControllers},
+	 * storing the resulting pose in the {@link BonePoseBuffer} of the animatable's {@link AnimatableManager}
+	 * <p>
+	 * The computed pose is not applied to the {@link GeoBone GeoBones} here, see {@link BonePoseBuffer#applyToBones()}
 	 *
 	 * @param animationState The AnimationState for the current render pass
 	 */
 	public void tickAnimation(AnimationState<T> animationState) {
 		AnimatableManager<T> animatableManager = animationState.manager();
-		Map<String, BoneSnapshot> boneSnapshots = updateBoneSnapshots(animatableManager.getBoneSnapshotCollection());
+		BoneSnapshot[] boneSnapshots = animatableManager.getBoneSnapshots(this.boneList);
+		BonePoseBuffer pose = animatableManager.getPoseBuffer();
 		double lerpedAnimationTick = animationState.getData(DataTickets.ANIMATION_TICKS);
+		boolean skipForLod = shouldSkipForLod(animationState, pose);
+
+		if (skipForLod && !hasControllersIgnoringLod(animatableManager))
+			return;
+
+		pose.prepare(this.boneList);
 
 		for (AnimationController<T> controller : animatableManager.getAnimationControllers().values()) {
 			if (this.reloadAnimations) {
 				controller.forceAnimationReset();
-				controller.getBoneAnimationQueues().clear();
+				controller.getAnimationChannels().clear();
 			}
 
-			controller.beginTick(animationState, this.bones, boneSnapshots, lerpedAnimationTick);
+			if (skipForLod && !controller.isIgnoringAnimationLod()) {
+				retainPose(controller.getAnimationChannels(), pose);
 
-			for (BoneAnimationQueue boneAnimation : controller.getBoneAnimationQueues().values()) {
-				GeoBone bone = boneAnimation.bone();
-				BoneSnapshot snapshot = boneSnapshots.get(bone.getName());
-				BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
+				continue;
+			}
+
+			controller.beginTick(animationState, this.activeModel, boneSnapshots, lerpedAnimationTick);
+
+			AnimationChannelBuffer channels = controller.getAnimationChannels();
+			EasingType easingType = controller.getEasingOverride();
+			BitSet activeSlots = channels.getActiveSlots();
+
+			// Only iterate the bones this controller animated this pass, so its cost scales with what it animates rather than the size of the model
+			for (int slot = activeSlots.nextSetBit(0); slot >= 0; slot = activeSlots.nextSetBit(slot + 1)) {
+				boolean hasRotation = channels.hasChannel(slot, AnimationChannelBuffer.ROTATION);
+				boolean hasPosition = channels.hasChannel(slot, AnimationChannelBuffer.POSITION);
+				boolean hasScale = channels.hasChannel(slot, AnimationChannelBuffer.SCALE);
+				BoneSnapshot snapshot = boneSnapshots[slot];
+				BoneSnapshot initialSnapshot = channels.getBone(slot).getInitialSnapshot();
+
+				if (hasRotation) {
+					double rotEasingFactor = computeSharedEasingFactor(channels, slot, AnimationChannelBuffer.ROTATION, easingType, animationState);
+					float rotX = (float)lerpChannel(channels, slot, AnimationChannelBuffer.ROTATION, 0, rotEasingFactor, easingType, animationState) + initialSnapshot.getRotX();
+					float rotY = (float)lerpChannel(channels, slot, AnimationChannelBuffer.ROTATION, 1, rotEasingFactor, easingType, animationState) + initialSnapshot.getRotY();
+					float rotZ = (float)lerpChannel(channels, slot, AnimationChannelBuffer.ROTATION, 2, rotEasingFactor, easingType, animationState) + initialSnapshot.getRotZ();
 
-				AnimationPoint rotXPoint = boneAnimation.rotationXQueue().poll();
-				AnimationPoint rotYPoint = boneAnimation.rotationYQueue().poll();
-				AnimationPoint rotZPoint = boneAnimation.rotationZQueue().poll();
-				AnimationPoint posXPoint = boneAnimation.positionXQueue().poll();
-				AnimationPoint posYPoint = boneAnimation.positionYQueue().poll();
-				AnimationPoint posZPoint = boneAnimation.positionZQueue().poll();
-				AnimationPoint scaleXPoint = boneAnimation.scaleXQueue().poll();
-				AnimationPoint scaleYPoint = boneAnimation.scaleYQueue().poll();
-				AnimationPoint scaleZPoint = boneAnimation.scaleZQueue().poll();
-				EasingType easingType = controller.overrideEasingTypeFunction.apply(animationState);
-
-				if (rotXPoint != null && rotYPoint != null && rotZPoint != null) {
-					bone.setRotX((float)EasingType.lerpWithOverride(rotXPoint, easingType, animationState) + initialSnapshot.getRotX());
-					bone.setRotY((float)EasingType.lerpWithOverride(rotYPoint, easingType, animationState) + initialSnapshot.getRotY());
-					bone.setRotZ((float)EasingType.lerpWithOverride(rotZPoint, easingType, animationState) + initialSnapshot.getRotZ());
-					snapshot.updateRotation(bone.getRotX(), bone.getRotY(), bone.getRotZ());
+					pose.setRotation(slot, rotX, rotY, rotZ);
+					snapshot.updateRotation(rotX, rotY, rotZ);
 					snapshot.startRotAnim();
-					bone.markRotationAsChanged();
 				}
 
-				if (posXPoint != null && posYPoint != null && posZPoint != null) {
-					bone.setPosX((float)EasingType.lerpWithOverride(posXPoint, easingType, animationState));
-					bone.setPosY((float)EasingType.lerpWithOverride(posYPoint, easingType, animationState));
-					bone.setPosZ((float)EasingType.lerpWithOverride(posZPoint, easingType, animationState));
-					snapshot.updateOffset(bone.getPosX(), bone.getPosY(), bone.getPosZ());
+				if (hasPosition) {
+					double posEasingFactor = computeSharedEasingFactor(channels, slot, AnimationChannelBuffer.POSITION, easingType, animationState);
+					float posX = (float)lerpChannel(channels, slot, AnimationChannelBuffer.POSITION, 0, posEasingFactor, easingType, animationState);
+					float posY = (float)lerpChannel(channels, slot, AnimationChannelBuffer.POSITION, 1, posEasingFactor, easingType, animationState);
+					float posZ = (float)lerpChannel(channels, slot, AnimationChannelBuffer.POSITION, 2, posEasingFactor, easingType, animationState);
+
+					pose.setPosition(slot, posX, posY, posZ);
+					snapshot.updateOffset(posX, posY, posZ);
 					snapshot.startPosAnim();
-					bone.markPositionAsChanged();
 				}
 
-				if (scaleXPoint != null && scaleYPoint != null && scaleZPoint != null) {
-					bone.setScaleX((float)EasingType.lerpWithOverride(scaleXPoint, easingType, animationState));
-					bone.setScaleY((float)EasingType.lerpWithOverride(scaleYPoint, easingType, animationState));
-					bone.setScaleZ((float)EasingType.lerpWithOverride(scaleZPoint, easingType, animationState));
-					snapshot.updateScale(bone.getScaleX(), bone.getScaleY(), bone.getScaleZ());
+				if (hasScale) {
+					double scaleEasingFactor = computeSharedEasingFactor(channels, slot, AnimationChannelBuffer.SCALE, easingType, animationState);
+					float scaleX = (float)lerpChannel(channels, slot, AnimationChannelBuffer.SCALE, 0, scaleEasingFactor, easingType, animationState);
+					float scaleY = (float)lerpChannel(channels, slot, AnimationChannelBuffer.SCALE, 1, scaleEasingFactor, easingType, animationState);
+					float scaleZ = (float)lerpChannel(channels, slot, AnimationChannelBuffer.SCALE, 2, scaleEasingFactor, easingType, animationState);
+
+					pose.setScale(slot, scaleX, scaleY, scaleZ);
+					snapshot.updateScale(scaleX, scaleY, scaleZ);
 					snapshot.startScaleAnim();
-					bone.markScaleAsChanged();
 				}
 			}
 
 			controller.finishRenderPass();
 		}
 
-		this.reloadAnimations = false;
+		// Only written when set, as batched evaluation never runs with a reload pending and other threads may be reading it
+		if (this.reloadAnimations)
+			this.reloadAnimations = false;
+
 		double resetTickLength = animationState.getData(DataTickets.BONE_RESET_TIME);
+		BitSet bonesAtRest = pose.collectBonesAtRest();
+
+		// Only bones that were animated this pass or are still resetting need processing, bones at rest already hold their initial pose
+		for (int boneIndex = bonesAtRest.nextClearBit(0); boneIndex < pose.size(); boneIndex = bonesAtRest.nextClearBit(boneIndex + 1)) {
+			GeoBone bone = pose.getBone(boneIndex);
 
-		for (GeoBone bone : getRegisteredBones()) {
-			if (!bone.hasRotationChanged()) {
+			if (!pose.hasRotationChanged(boneIndex) && !pose.isRotationAtRest(boneIndex)) {
 				BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
-				BoneSnapshot saveSnapshot = boneSnapshots.get(bone.getName());
+				BoneSnapshot saveSnapshot = boneSnapshots[boneIndex];
 
 				if (saveSnapshot.isRotAnimInProgress())
 					saveSnapshot.stopRotAnim(lerpedAnimationTick);
@@ -199,86 +341,129 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 					}
 				}
 
-				bone.setRotX((float)Mth.lerp(percentageReset, lastXRot, initialRotX));
-				bone.setRotY((float)Mth.lerp(percentageReset, lastYRot, initialRotY));
-				bone.setRotZ((float)Mth.lerp(percentageReset, lastZRot, initialRotZ));
+				float rotX = (float)Mth.lerp(percentageReset, lastXRot, initialRotX);
+				float rotY = (float)Mth.lerp(percentageReset, lastYRot, initialRotY);
+				float rotZ = (float)Mth.lerp(percentageReset, lastZRot, initialRotZ);
 
-				if (percentageReset >= 1)
-					saveSnapshot.updateRotation(bone.getRotX(), bone.getRotY(), bone.getRotZ());
+				pose.setRotation(boneIndex, rotX, rotY, rotZ);
+
+				if (percentageReset >= 1) {
+					saveSnapshot.updateRotation(rotX, rotY, rotZ);
+					pose.markRotationAtRest(boneIndex);
+				}
 			}
 
-			if (!bone.hasPositionChanged()) {
+			if (!pose.hasPositionChanged(boneIndex) && !pose.isPositionAtRest(boneIndex)) {
 				BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
-				BoneSnapshot saveSnapshot = boneSnapshots.get(bone.getName());
+				BoneSnapshot saveSnapshot = boneSnapshots[boneIndex];
 
 				if (saveSnapshot.isPosAnimInProgress())
 					saveSnapshot.stopPosAnim(lerpedAnimationTick);
 
 				double percentageReset = resetTickLength == 0 ? 1 : Math.min((lerpedAnimationTick - saveSnapshot.getLastResetPositionTick()) / resetTickLength, 1);
+				float posX = (float)Mth.lerp(percentageReset, saveSnapshot.getOffsetX(), initialSnapshot.getOffsetX());
+				float posY = (float)Mth.lerp(percentageReset, saveSnapshot.getOffsetY(), initialSnapshot.getOffsetY());
+				float posZ = (float)Mth.lerp(percentageReset, saveSnapshot.getOffsetZ(), initialSnapshot.getOffsetZ());
 
-				bone.setPosX((float)Mth.lerp(percentageReset, saveSnapshot.getOffsetX(), initialSnapshot.getOffsetX()));
-				bone.setPosY((float)Mth.lerp(percentageReset, saveSnapshot.getOffsetY(), initialSnapshot.getOffsetY()));
-				bone.setPosZ((float)Mth.lerp(percentageReset, saveSnapshot.getOffsetZ(), initialSnapshot.getOffsetZ()));
+				pose.setPosition(boneIndex, posX, posY, posZ);
 
-				if (percentageReset >= 1)
-					saveSnapshot.updateOffset(bone.getPosX(), bone.getPosY(), bone.getPosZ());
+				if (percentageReset >= 1) {
+					saveSnapshot.updateOffset(posX, posY, posZ);
+					pose.markPositionAtRest(boneIndex);
+				}
 			}
 
-			if (!bone.hasScaleChanged()) {
+			if (!pose.hasScaleChanged(boneIndex) && !pose.isScaleAtRest(boneIndex)) {
 				BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
-				BoneSnapshot saveSnapshot = boneSnapshots.get(bone.getName());
+				BoneSnapshot saveSnapshot = boneSnapshots[boneIndex];
 
 				if (saveSnapshot.isScaleAnimInProgress())
 					saveSnapshot.stopScaleAnim(lerpedAnimationTick);
 
 				double percentageReset = resetTickLength == 0 ? 1 : Math.min((lerpedAnimationTick - saveSnapshot.getLastResetScaleTick()) / resetTickLength, 1);
+				float scaleX = (float)Mth.lerp(percentageReset, saveSnapshot.getScaleX(), initialSnapshot.getScaleX());
+				float scaleY = (float)Mth.lerp(percentageReset, saveSnapshot.getScaleY(), initialSnapshot.getScaleY());
+				float scaleZ = (float)Mth.lerp(percentageReset, saveSnapshot.getScaleZ(), initialSnapshot.getScaleZ());
 
-				bone.setScaleX((float)Mth.lerp(percentageReset, saveSnapshot.getScaleX(), initialSnapshot.getScaleX()));
-				bone.setScaleY((float)Mth.lerp(percentageReset, saveSnapshot.getScaleY(), initialSnapshot.getScaleY()));
-				bone.setScaleZ((float)Mth.lerp(percentageReset, saveSnapshot.getScaleZ(), initialSnapshot.getScaleZ()));
+				pose.setScale(boneIndex, scaleX, scaleY, scaleZ);
 
-				if (percentageReset >= 1)
-					saveSnapshot.updateScale(bone.getScaleX(), bone.getScaleY(), bone.getScaleZ());
+				if (percentageReset >= 1) {
+					saveSnapshot.updateScale(scaleX, scaleY, scaleZ);
+					pose.markScaleAtRest(boneIndex);
+				}
 			}
 		}
 
-		resetBoneTransformationMarkers();
 		animatableManager.finishFirstTick();
 	}
 
 	/**
-	 * Bandaid helper to try to detect suspected completed rotations in an animation frame
-	 * <p>
-	 * By no means perfectly accurate, but is the best we can do until the system is changed
+	 * Compute the eased value of a single axis of a channel in the given {@link AnimationChannelBuffer}
+	 *
+	 * @param sharedEasingFactor The eased progress shared by all three axes of the channel, or {@link Double#NaN} if each axis should be eased individually
 	 */
-	private boolean isSuspectedCompletedRotation(float lastRotation) {
-		float rotations = Mth.abs(lastRotation / (360f * Mth.DEG_TO_RAD));
-		float partialRotation = 1 - (rotations - (int)rotations);
+	private static double lerpChannel(AnimationChannelBuffer channels, int slot, int channel, int axis, double sharedEasingFactor, @Nullable EasingType easingOverride, AnimationState<?> animationState) {
+		if (!Double.isNaN(sharedEasingFactor)) {
+			if (channels.getTick(slot, channel, axis) >= channels.getTransitionLength(slot, channel, axis))
+				return channels.getEndValue(slot, channel, axis);
 
-		return partialRotation == 1 || partialRotation < 0.026 * rotations;
+			return Mth.lerp(sharedEasingFactor, channels.getStartValue(slot, channel, axis), channels.getEndValue(slot, channel, axis));
+		}
+
+		return EasingType.lerpWithOverride(channels.getKeyframe(slot, channel, axis), channels.getTick(slot, channel, axis), channels.getTransitionLength(slot, channel, axis),
+										   channels.getStartValue(slot, channel, axis), channels.getEndValue(slot, channel, axis), easingOverride, animationState);
 	}
 
 	/**
-	 * Reset the transformation markers applied to each {@link GeoBone} ready for the next render frame
+	 * Compute the eased progress of an {@link AnimationChannelBuffer#isInterleaved interleaved} channel once for all three of its axes
+	 * <p>
+	 * Only possible when all three axes use the same {@link EasingType.CurveEasing curve easing} and the same easing argument,
+	 * as other easing types (such as {@link EasingType#CATMULLROM} or {@link EasingType#BEZIER}) depend on per-axis values
+	 *
+	 * @return The eased progress through the channel's current transition, or {@link Double#NaN} if each axis must be eased individually
 	 */
-	private void resetBoneTransformationMarkers() {
-		getRegisteredBones().forEach(GeoBone::resetStateChanges);
+	private static double computeSharedEasingFactor(AnimationChannelBuffer channels, int slot, int channel, @Nullable EasingType easingOverride, AnimationState<?> animationState) {
+		if (!channels.isInterleaved(slot, channel))
+			return Double.NaN;
+
+		Keyframe<?> xKeyframe = channels.getKeyframe(slot, channel, 0);
+		Keyframe<?> yKeyframe = channels.getKeyframe(slot, channel, 1);
+		Keyframe<?> zKeyframe = channels.getKeyframe(slot, channel, 2);
+		EasingType easingType = easingOverride != null ? easingOverride : getEasingType(xKeyframe);
+
+		if (!(easingType instanceof EasingType.CurveEasing))
+			return Double.NaN;
+
+		if (easingOverride == null && (getEasingType(yKeyframe) != easingType || getEasingType(zKeyframe) != easingType))
+			return Double.NaN;
+
+		MathValue easingArg = getEasingArg(xKeyframe);
+
+		if (getEasingArg(yKeyframe) != easingArg || getEasingArg(zKeyframe) != easingArg)
+			return Double.NaN;
+
+		return easingType.ease(channels.getTick(slot, channel, 0) / channels.getTransitionLength(slot, channel, 0), easingArg == null ? Double.NaN : easingArg.get(animationState));
+	}
+
+	private static EasingType getEasingType(@Nullable Keyframe<?> keyframe) {
+		return keyframe == null ? EasingType.LINEAR : keyframe.easingType();
+	}
+
+	@Nullable
+	private static MathValue getEasingArg(@Nullable Keyframe<?> keyframe) {
+		return keyframe == null || keyframe.easingArgs().isEmpty() ? null : keyframe.easingArgs().getFirst();
 	}
 
 	/**
-	 * Create new bone {@link BoneSnapshot} based on the bone's initial snapshot for the currently registered {@link GeoBone GeoBones},
-	 * filtered by the bones already present in the master snapshots map
-	 *
-	 * @param snapshots The master bone snapshots map from the related {@link AnimatableManager}
-	 * @return The input snapshots map, for easy assignment
+	 * Bandaid helper to try to detect suspected completed rotations in an animation frame
+	 * <p>
+	 * By no means perfectly accurate, but is the best we can do until the system is changed
 	 */
-	private Map<String, BoneSnapshot> updateBoneSnapshots(Map<String, BoneSnapshot> snapshots) {
-		for (GeoBone bone : getRegisteredBones()) {
-			if (!snapshots.containsKey(bone.getName()))
-				snapshots.put(bone.getName(), BoneSnapshot.copy(bone.getInitialSnapshot()));
-		}
+	private boolean isSuspectedCompletedRotation(float lastRotation) {
+		float rotations = Mth.abs(lastRotation / (360f * Mth.DEG_TO_RAD));
+		float partialRotation = 1 - (rotations - (int)rotations);
 
-		return snapshots;
+		return partialRotation == 1 || partialRotation < 0.026 * rotations;
 	}
 
 	/**
@@ -308,17 +493,46 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 	}
 
 	/**
-	 * Clear the {@link GeoBone GeoBones} currently registered to the processor,
-	 * then prepares the processor for a new model
+	 * Switch the {@link GeoBone GeoBones} currently registered to the processor to those of the given model,
+	 * preparing the processor for a new model
+	 * <p>
+	 * Each model's bones are only registered the first time it is made active, with subsequent switches re-using the existing registry until the next resource reload
 	 * <p>
 	 * Should be called whenever switching models to render/animate
 	 */
 	public void setActiveModel(BakedGeoModel model) {
-		this.bones.clear();
+		int reloadGeneration = GeckoLibResources.getReloadGeneration();
+
+		if (reloadGeneration != this.boneRegistryGeneration) {
+			this.boneRegistries.clear();
+			this.boneRegistryGeneration = reloadGeneration;
+		}
+
+		this.boneList = model.bones();
+		this.activeModel = model;
+		Map<String, GeoBone> registry = this.boneRegistries.get(model);
+
+		if (registry != null) {
+			this.bones = registry;
+
+			return;
+		}
+
+		this.bones = new Object2ObjectOpenHashMap<>(model.bones().size());
 
 		for (GeoBone bone : model.topLevelBones()) {
 			registerGeoBone(bone);
 		}
+
+		this.boneRegistries.put(model, this.bones);
+	}
+
+	/**
+	 * Get the {@link BakedGeoModel} currently active for this processor, or null if no model has been set yet
+	 */
+	@Nullable
+	public BakedGeoModel getActiveModel() {
+		return this.activeModel;
 	}
 
 	/**
@@ -333,4 +547,12 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 	 * used to define a playable animation stage for a {@link GeoAnimatable}
 	 */
 	public record QueuedAnimation(Animation animation, Animation.LoopType loopType) {}
+
+	/**
+	 * Cache key for a resolved animation queue
+	 *
+	 * @param animationResource The primary animation resource the queue was resolved from
+	 * @param rawAnimation The interned RawAnimation the queue was resolved for
+	 */
+	private record AnimationQueueKey(ResourceLocation animationResource, RawAnimation rawAnimation) {}
 }
@@ -1,13 +1,13 @@
 package software.bernie.geckolib.animatable.processing;
 
-import it.unimi.dsi.fastutil.objects.Reference2DoubleMap;
-import it.unimi.dsi.fastutil.objects.Reference2DoubleOpenHashMap;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.animatable.GeoAnimatable;
 import software.bernie.geckolib.animatable.manager.AnimatableManager;
+import software.bernie.geckolib.animation.state.QueryValueBuffer;
 import software.bernie.geckolib.constant.DataTickets;
 import software.bernie.geckolib.constant.dataticket.DataTicket;
+import software.bernie.geckolib.loading.math.MolangQueries;
 import software.bernie.geckolib.loading.math.value.Variable;
 import software.bernie.geckolib.renderer.base.GeoRenderState;
 
@@ -17,12 +17,12 @@ import software.bernie.geckolib.renderer.base.GeoRenderState;
  * This is where users would set their selected animation to play,
  * stop the controller, or any number of other animation-related actions.
  */
-public record AnimationState<T extends GeoAnimatable>(GeoRenderState renderState, AnimatableManager<T> manager, float partialTick, Reference2DoubleMap<Variable> queryValues, AnimationController<T> controller) {
+public record AnimationState<T extends GeoAnimatable>(GeoRenderState renderState, AnimatableManager<T> manager, float partialTick, @Nullable QueryValueBuffer queryValues, AnimationController<T> controller) {
 	public AnimationState(GeoRenderState renderState) {
 		this(renderState,
 			 renderState.getGeckolibData(DataTickets.ANIMATABLE_MANAGER),
 			 renderState.getGeckolibData(DataTickets.PARTIAL_TICK),
-			 renderState.getOrDefaultGeckolibData(DataTickets.QUERY_VALUES, new Reference2DoubleOpenHashMap<>(0)),
+			 renderState.getGeckolibData(DataTickets.QUERY_VALUES),
 			 null);
 	}
 
@@ -87,6 +87,16 @@ public record AnimationState<T extends GeoAnimatable>(GeoRenderState renderState
 	 */
 	@ApiStatus.Internal
 	public double getActorVariableValue(Variable variable) {
-		return this.queryValues.getDouble(variable);
+		return getActorVariableValue(MolangQueries.getVariableSlot(variable));
+	}
+
+	/**
+	 * Get the pre-computed Molang query value for the provided {@link MolangQueries#getVariableSlot variable slot}
+	 * <p>
+	 * Only variables relevant to the animations on this AnimationState, this render frame, will be present
+	 */
+	@ApiStatus.Internal
+	public double getActorVariableValue(int slot) {
+		return this.queryValues == null ? 0 : this.queryValues.get(slot);
 	}
 }
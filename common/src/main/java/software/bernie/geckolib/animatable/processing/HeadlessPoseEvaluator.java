@@ -0,0 +1,216 @@
+package software.bernie.geckolib.animatable.processing;
+
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import software.bernie.geckolib.animatable.GeoAnimatable;
+import software.bernie.geckolib.animatable.manager.AnimatableManager;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.cache.object.GeoBone;
+import software.bernie.geckolib.constant.DataTickets;
+import software.bernie.geckolib.model.GeoModel;
+import software.bernie.geckolib.renderer.base.GeoRenderState;
+
+import java.util.List;
+
+/**
+ * Render-independent evaluator for animation poses
+ * <p>
+ * Runs the same {@link AnimationController}, keyframe, and Molang pipeline as a render pass would, but without a renderer,
+ * {@code PoseStack}, or {@code VertexConsumer}, and computes the model-space transform of each bone directly from the resulting {@link BonePoseBuffer}.<br>
+ * This allows bone positions to be retrieved outside of a render pass, such as for client-side hitboxes, particle origins, or projectile spawn points
+ * <p>
+ * Notes:
+ * <ul>
+ *     <li>This is client-side only. {@link GeoModel}, {@link GeoRenderState}, and {@link DataTickets} reference client classes, so the evaluator
+ *     can't be used on a dedicated server</li>
+ *     <li>The evaluator drives the given {@link AnimatableManager AnimatableManager's} controllers, so shouldn't be used on a manager that is also being rendered</li>
+ *     <li>Each evaluator uses its {@link GeoModel GeoModel's} {@link AnimationProcessor}, so both should be confined to a single thread.
+ *     Use a separate {@code GeoModel} instance for evaluation off the render thread</li>
+ *     <li>{@link GeoModel#setCustomAnimations} and {@link GeoModel#applyMolangQueries} are not called, as they are typically client-side</li>
+ *     <li>The baked model and its animations must be available to the {@code GeoModel}, either from GeckoLib's loaded resources
+ *     or via an override of {@link GeoModel#resolveAnimation}</li>
+ *     <li>Molang queries that depend on the client (such as the client player or camera) will not have meaningful values</li>
+ * </ul>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * ModelPose pose = new ModelPose();
+ *
+ * this.evaluator.evaluate(entity, bakedModel, this.evaluator.createRenderState(entity, manager, entity.tickCount), entity.level(), pose);
+ * pose.getBonePosition(bakedModel.getBone("head").get().getIndex(), headPos);
+ * }</pre>
+ */
+public final class HeadlessPoseEvaluator<T extends GeoAnimatable> {
+	private final GeoModel<T> model;
+
+	public HeadlessPoseEvaluator(GeoModel<T> model) {
+		this.model = model;
+	}
+
+	/**
+	 * Create a {@link GeoRenderState} holding the minimum data required to evaluate a pose
+	 * <p>
+	 * Additional data (such as {@link DataTickets#IS_MOVING}) can be added to the returned state before evaluating
+	 *
+	 * @param animatable The animatable to evaluate the pose for
+	 * @param manager The animatable's manager, holding its controllers and pose buffer
+	 * @param animationTick The current animation time (in ticks) of the animatable
+	 */
+	public GeoRenderState createRenderState(T animatable, AnimatableManager<T> manager, double animationTick) {
+		GeoRenderState renderState = new GeoRenderState.Impl();
+
+		renderState.addGeckolibData(DataTickets.TICK, animationTick);
+		renderState.addGeckolibData(DataTickets.ANIMATION_TICKS, animationTick);
+		renderState.addGeckolibData(DataTickets.ANIMATABLE_MANAGER, manager);
+		renderState.addGeckolibData(DataTickets.PARTIAL_TICK, 0f);
+		renderState.addGeckolibData(DataTickets.IS_MOVING, false);
+		renderState.addGeckolibData(DataTickets.BONE_RESET_TIME, animatable.getBoneResetTime());
+		renderState.addGeckolibData(DataTickets.ANIMATABLE_CLASS, animatable.getClass());
+		renderState.addGeckolibData(DataTickets.ANIMATION_LOD, null);
+
+		return renderState;
+	}
+
+	/**
+	 * Evaluate the pose of the given animatable at the given animation time
+	 *
+	 * @param animatable The animatable to evaluate the pose for
+	 * @param manager The animatable's manager, holding its controllers and pose buffer
+	 * @param bakedModel The baked model to evaluate the pose for
+	 * @param animationTick The current animation time (in ticks) of the animatable
+	 * @param level The level the animatable is in
+	 * @return A new ModelPose holding the model-space transform of each bone
+	 */
+	public ModelPose evaluate(T animatable, AnimatableManager<T> manager, BakedGeoModel bakedModel, double animationTick, Level level) {
+		ModelPose pose = new ModelPose();
+
+		evaluate(animatable, bakedModel, createRenderState(animatable, manager, animationTick), level, pose);
+
+		return pose;
+	}
+
+	/**
+	 * Evaluate the pose of the given animatable, writing the model-space transform of each bone into an existing {@link ModelPose}
+	 *
+	 * @param animatable The animatable to evaluate the pose for
+	 * @param bakedModel The baked model to evaluate the pose for
+	 * @param renderState The state to evaluate with, as created by {@link #createRenderState}
+	 * @param level The level the animatable is in
+	 * @param pose The ModelPose to write the result to, re-using its matrices where possible
+	 */
+	public void evaluate(T animatable, BakedGeoModel bakedModel, GeoRenderState renderState, Level level, ModelPose pose) {
+		AnimatableManager<T> manager = renderState.getGeckolibData(DataTickets.ANIMATABLE_MANAGER);
+		AnimationProcessor<T> processor = this.model.getAnimationProcessor();
+
+		this.model.setActiveModel(bakedModel);
+		processor.prepareForRenderPass(animatable, manager, renderState, renderState.getGeckolibData(DataTickets.ANIMATION_TICKS), this.model, level, null, Vec3.ZERO);
+
+		if (!processor.getRegisteredBones().isEmpty())
+			processor.tickAnimation(new AnimationState<>(renderState));
+
+		pose.compute(bakedModel, manager.getPoseBuffer());
+	}
+
+	/**
+	 * The model-space transforms of each bone in a {@link BakedGeoModel}, indexed by {@link GeoBone#getIndex()}
+	 * <p>
+	 * Each matrix is equivalent to {@link GeoBone#getModelSpaceMatrix()} as computed by GeckoLib's renderers,
+	 * excluding any renderer-specific scaling or translation
+	 */
+	public static final class ModelPose {
+		private Matrix4f[] matrices = new Matrix4f[0];
+		@Nullable
+		private BakedGeoModel model = null;
+
+		/**
+		 * Get the {@link BakedGeoModel} this pose was last computed for, or null if it hasn't been computed yet
+		 */
+		@Nullable
+		public BakedGeoModel getModel() {
+			return this.model;
+		}
+
+		/**
+		 * Get the model-space transform of the bone with the given index
+		 * <p>
+		 * The returned matrix is re-used by subsequent evaluations, and should be copied if it needs to be kept
+		 */
+		public Matrix4f getModelSpaceMatrix(int boneIndex) {
+			return this.matrices[boneIndex];
+		}
+
+		/**
+		 * Get the model-space position (in blocks) of the pivot of the bone with the given index
+		 *
+		 * @param boneIndex The index of the bone
+		 * @param dest The vector to store the position in
+		 * @return {@code dest}
+		 */
+		public Vector3f getBonePosition(int boneIndex, Vector3f dest) {
+			return this.matrices[boneIndex].getTranslation(dest);
+		}
+
+		/**
+		 * Compute the model-space transform of each bone in the given model from the given pose buffer,
+		 * falling back to the bones' initial poses if the buffer isn't laid out for the model
+		 */
+		void compute(BakedGeoModel model, BonePoseBuffer pose) {
+			List<GeoBone> bones = model.bones();
+
+			if (this.matrices.length != bones.size()) {
+				this.matrices = new Matrix4f[bones.size()];
+
+				for (int i = 0; i < this.matrices.length; i++) {
+					this.matrices[i] = new Matrix4f();
+				}
+			}
+
+			this.model = model;
+			boolean hasPose = pose.isLaidOutFor(bones);
+
+			// Bones are indexed depth-first, so each parent is always computed before its children
+			for (int i = 0; i < bones.size(); i++) {
+				GeoBone bone = bones.get(i);
+				GeoBone parent = bone.getParent();
+				Matrix4f matrix = this.matrices[i];
+
+				if (parent == null) {
+					matrix.identity();
+				}
+				else {
+					matrix.set(this.matrices[parent.getIndex()]).translate(-parent.getPivotX() / 16f, -parent.getPivotY() / 16f, -parent.getPivotZ() / 16f);
+				}
+
+				float posX = hasPose ? pose.getPosX(i) : bone.getInitialSnapshot().getOffsetX();
+				float posY = hasPose ? pose.getPosY(i) : bone.getInitialSnapshot().getOffsetY();
+				float posZ = hasPose ? pose.getPosZ(i) : bone.getInitialSnapshot().getOffsetZ();
+				float rotX = hasPose ? pose.getRotX(i) : bone.getInitialSnapshot().getRotX();
+				float rotY = hasPose ? pose.getRotY(i) : bone.getInitialSnapshot().getRotY();
+				float rotZ = hasPose ? pose.getRotZ(i) : bone.getInitialSnapshot().getRotZ();
+
+				matrix.translate(-posX / 16f, posY / 16f, posZ / 16f)
+						.translate(bone.getPivotX() / 16f, bone.getPivotY() / 16f, bone.getPivotZ() / 16f);
+
+				if (rotZ != 0)
+					matrix.rotateZ(rotZ);
+
+				if (rotY != 0)
+					matrix.rotateY(rotY);
+
+				if (rotX != 0)
+					matrix.rotateX(rotX);
+
+				if (hasPose) {
+					matrix.scale(pose.getScaleX(i), pose.getScaleY(i), pose.getScaleZ(i));
+				}
+				else {
+					matrix.scale(bone.getInitialSnapshot().getScaleX(), bone.getInitialSnapshot().getScaleY(), bone.getInitialSnapshot().getScaleZ());
+				}
+			}
+		}
+	}
+}
@@ -9,10 +9,13 @@ import software.bernie.geckolib.animatable.processing.AnimationController;
 import software.bernie.geckolib.animatable.processing.AnimationState;
 import software.bernie.geckolib.animation.keyframe.BoneAnimation;
 import software.bernie.geckolib.animation.keyframe.event.data.CustomInstructionKeyframeData;
+import software.bernie.geckolib.animation.keyframe.event.data.KeyFrameData;
 import software.bernie.geckolib.animation.keyframe.event.data.ParticleKeyframeData;
 import software.bernie.geckolib.animation.keyframe.event.data.SoundKeyframeData;
 import software.bernie.geckolib.loading.math.value.Variable;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -42,7 +45,35 @@ public record Animation(String name, double length, LoopType loopType, BoneAnima
 		return new Animation(name, length, loopType, boneAnimations, usedVariables, keyframeMarkers);
 	}
 
-	public record KeyframeMarkers(SoundKeyframeData[] sounds, ParticleKeyframeData[] particles, CustomInstructionKeyframeData[] customInstructions) {}
+	/**
+	 * The keyframe event markers for an animation
+	 *
+	 * @param sounds The sound keyframe markers
+	 * @param particles The particle keyframe markers
+	 * @param customInstructions The custom instruction keyframe markers
+	 * @param timeline All of the above markers merged into a single array, sorted by start tick
+	 */
+	public record KeyframeMarkers(SoundKeyframeData[] sounds, ParticleKeyframeData[] particles, CustomInstructionKeyframeData[] customInstructions, KeyFrameData[] timeline) {
+		public KeyframeMarkers(SoundKeyframeData[] sounds, ParticleKeyframeData[] particles, CustomInstructionKeyframeData[] customInstructions) {
+			this(sounds, particles, customInstructions, buildTimeline(sounds, particles, customInstructions));
+		}
+
+		/**
+		 * Merge the given markers into a single array sorted by start tick
+		 * <p>
+		 * Markers with the same start tick retain their relative order, with sounds first, then particles, then custom instructions
+		 */
+		private static KeyFrameData[] buildTimeline(SoundKeyframeData[] sounds, ParticleKeyframeData[] particles, CustomInstructionKeyframeData[] customInstructions) {
+			KeyFrameData[] timeline = new KeyFrameData[sounds.length + particles.length + customInstructions.length];
+
+			System.arraycopy(sounds, 0, timeline, 0, sounds.length);
+			System.arraycopy(particles, 0, timeline, sounds.length, particles.length);
+			System.arraycopy(customInstructions, 0, timeline, sounds.length + particles.length, customInstructions.length);
+			Arrays.sort(timeline, Comparator.comparingDouble(KeyFrameData::getStartTick));
+
+			return timeline;
+		}
+	}
 
 	@ApiStatus.Internal
 	public static Animation generateWaitAnimation(double length) {
@@ -0,0 +1,93 @@
+package software.bernie.geckolib.animation;
+
+/**
+ * Optional lookup-table mode for the built-in {@link EasingType.CurveEasing curve easings} that use transcendental or power functions
+ * (sine, exponential, quartic, quintic, back, elastic, and bounce)
+ * <p>
+ * When enabled, each supported curve is sampled once at the configured resolution, and subsequently evaluated by linearly interpolating between
+ * the two nearest samples instead of computing the curve directly. Only curves evaluated with their default easing value use the table.
+ * <p>
+ * For a resolution of {@code N}, the maximum error for a smooth curve is bounded by {@code max|f''| / (8 * N^2)}.
+ * At the suggested resolution of 256 this is below {@code 1e-4} for all supported curves other than bounce,
+ * which has corners between each bounce and so is bounded instead by {@code ~2.2 / N} (below {@code 1e-2} at 256).<br>
+ * The measured maximum error of each table is available via {@link LookupTable#maxError()}, checked at {@value #ERROR_SUBSAMPLES} points per interval
+ * <p>
+ * Disabled by default
+ */
+public final class EasingLookupTables {
+	private static final int ERROR_SUBSAMPLES = 64;
+
+	private static int resolution = 0;
+
+	private EasingLookupTables() {}
+
+	/**
+	 * Set the number of intervals each supported easing curve is sampled at, or 0 to disable lookup tables
+	 * <p>
+	 * Tables are rebuilt lazily the next time each curve is used
+	 */
+	public static void setResolution(int intervals) {
+		resolution = Math.max(0, intervals);
+	}
+
+	public static int getResolution() {
+		return resolution;
+	}
+
+	/**
+	 * Get the measured maximum error of the lookup table for the given {@link EasingType} at the current resolution
+	 *
+	 * @return The maximum absolute error of the table, or 0 if the easing type isn't currently using a lookup table
+	 */
+	public static double getMaxError(EasingType easingType) {
+		if (!(easingType instanceof EasingType.CurveEasing curveEasing))
+			return 0;
+
+		LookupTable table = curveEasing.getLookupTable();
+
+		return table == null ? 0 : table.maxError();
+	}
+
+	/**
+	 * Pre-sampled values for an easing curve over 0-1
+	 *
+	 * @param resolution The number of intervals the curve was sampled at
+	 * @param values The sampled values, with {@code resolution + 1} entries
+	 * @param maxError The measured maximum absolute error of the table compared to the curve
+	 */
+	public record LookupTable(int resolution, double[] values, double maxError) {
+		/**
+		 * Sample the given curve at the given resolution, measuring the resulting error along the way
+		 */
+		public static LookupTable build(EasingType.CurveEasing.Curve curve, int resolution) {
+			double[] values = new double[resolution + 1];
+			double maxError = 0;
+
+			for (int i = 0; i <= resolution; i++) {
+				values[i] = curve.apply(i / (double)resolution, Double.NaN);
+			}
+
+			for (int i = 0; i < resolution; i++) {
+				for (int j = 1; j < ERROR_SUBSAMPLES; j++) {
+					double delta = j / (double)ERROR_SUBSAMPLES;
+					double expected = curve.apply((i + delta) / resolution, Double.NaN);
+
+					maxError = Math.max(maxError, Math.abs(values[i] + (values[i + 1] - values[i]) * delta - expected));
+				}
+			}
+
+			return new LookupTable(resolution, values, maxError);
+		}
+
+		/**
+		 * Get the linearly interpolated value of the table at the given progress (0-1) through the curve
+		 */
+		public double sample(double t) {
+			double position = t * this.resolution;
+			int index = Math.min((int)position, this.resolution - 1);
+			double delta = position - index;
+
+			return this.values[index] + (this.values[index + 1] - this.values[index]) * delta;
+		}
+	}
+}
@@ -29,51 +29,93 @@ import java.util.concurrent.ConcurrentHashMap;
 public interface EasingType {
 	Map<String, EasingType> EASING_TYPES = new ConcurrentHashMap<>(64);
 
-	EasingType LINEAR = register("linear", register("none", value -> easeIn(EasingType::linear)));
-	EasingType STEP = register("step", value -> easeIn(step(value)));
-	EasingType EASE_IN_SINE = register("easeinsine", value -> easeIn(EasingType::sine));
-	EasingType EASE_OUT_SINE = register("easeoutsine", value -> easeOut(EasingType::sine));
-	EasingType EASE_IN_OUT_SINE = register("easeinoutsine", value -> easeInOut(EasingType::sine));
-	EasingType EASE_IN_QUAD = register("easeinquad", value -> easeIn(EasingType::quadratic));
-	EasingType EASE_OUT_QUAD = register("easeoutquad", value -> easeOut(EasingType::quadratic));
-	EasingType EASE_IN_OUT_QUAD = register("easeinoutquad", value -> easeInOut(EasingType::quadratic));
-	EasingType EASE_IN_CUBIC = register("easeincubic", value -> easeIn(EasingType::cubic));
-	EasingType EASE_OUT_CUBIC = register("easeoutcubic", value -> easeOut(EasingType::cubic));
-	EasingType EASE_IN_OUT_CUBIC = register("easeinoutcubic", value -> easeInOut(EasingType::cubic));
-	EasingType EASE_IN_QUART = register("easeinquart", value -> easeIn(pow(4)));
-	EasingType EASE_OUT_QUART = register("easeoutquart", value -> easeOut(pow(4)));
-	EasingType EASE_IN_OUT_QUART = register("easeinoutquart", value -> easeInOut(pow(4)));
-	EasingType EASE_IN_QUINT = register("easeinquint", value -> easeIn(pow(4)));
-	EasingType EASE_OUT_QUINT = register("easeoutquint", value -> easeOut(pow(5)));
-	EasingType EASE_IN_OUT_QUINT = register("easeinoutquint", value -> easeInOut(pow(5)));
-	EasingType EASE_IN_EXPO = register("easeinexpo", value -> easeIn(EasingType::exp));
-	EasingType EASE_OUT_EXPO = register("easeoutexpo", value -> easeOut(EasingType::exp));
-	EasingType EASE_IN_OUT_EXPO = register("easeinoutexpo", value -> easeInOut(EasingType::exp));
-	EasingType EASE_IN_CIRC = register("easeincirc", value -> easeIn(EasingType::circle));
-	EasingType EASE_OUT_CIRC = register("easeoutcirc", value -> easeOut(EasingType::circle));
-	EasingType EASE_IN_OUT_CIRC = register("easeinoutcirc", value -> easeInOut(EasingType::circle));
-	EasingType EASE_IN_BACK = register("easeinback", value -> easeIn(back(value)));
-	EasingType EASE_OUT_BACK = register("easeoutback", value -> easeOut(back(value)));
-	EasingType EASE_IN_OUT_BACK = register("easeinoutback", value -> easeInOut(back(value)));
-	EasingType EASE_IN_ELASTIC = register("easeinelastic", value -> easeIn(elastic(value)));
-	EasingType EASE_OUT_ELASTIC = register("easeoutelastic", value -> easeOut(elastic(value)));
-	EasingType EASE_IN_OUT_ELASTIC = register("easeinoutelastic", value -> easeInOut(elastic(value)));
-	EasingType EASE_IN_BOUNCE = register("easeinbounce", value -> easeIn(bounce(value)));
-	EasingType EASE_OUT_BOUNCE = register("easeoutbounce", value -> easeOut(bounce(value)));
-	EasingType EASE_IN_OUT_BOUNCE = register("easeinoutbounce", value -> easeInOut(bounce(value)));
+	EasingType LINEAR = register("linear", register("none", CurveEasing.in((t, n) -> linear(t), false)));
+	EasingType STEP = register("step", CurveEasing.in(EasingType::step, false));
+	EasingType EASE_IN_SINE = register("easeinsine", CurveEasing.in((t, n) -> sine(t), true));
+	EasingType EASE_OUT_SINE = register("easeoutsine", CurveEasing.out((t, n) -> sine(t), true));
+	EasingType EASE_IN_OUT_SINE = register("easeinoutsine", CurveEasing.inOut((t, n) -> sine(t), true));
+	EasingType EASE_IN_QUAD = register("easeinquad", CurveEasing.in((t, n) -> quadratic(t), false));
+	EasingType EASE_OUT_QUAD = register("easeoutquad", CurveEasing.out((t, n) -> quadratic(t), false));
+	EasingType EASE_IN_OUT_QUAD = register("easeinoutquad", CurveEasing.inOut((t, n) -> quadratic(t), false));
+	EasingType EASE_IN_CUBIC = register("easeincubic", CurveEasing.in((t, n) -> cubic(t), false));
+	EasingType EASE_OUT_CUBIC = register("easeoutcubic", CurveEasing.out((t, n) -> cubic(t), false));
+	EasingType EASE_IN_OUT_CUBIC = register("easeinoutcubic", CurveEasing.inOut((t, n) -> cubic(t), false));
+	EasingType EASE_IN_QUART = register("easeinquart", CurveEasing.in((t, n) -> Math.pow(t, 4), true));
+	EasingType EASE_OUT_QUART = register("easeoutquart", CurveEasing.out((t, n) -> Math.pow(t, 4), true));
+	EasingType EASE_IN_OUT_QUART = register("easeinoutquart", CurveEasing.inOut((t, n) -> Math.pow(t, 4), true));
+	EasingType EASE_IN_QUINT = register("easeinquint", CurveEasing.in((t, n) -> Math.pow(t, 4), true));
+	EasingType EASE_OUT_QUINT = register("easeoutquint", CurveEasing.out((t, n) -> Math.pow(t, 5), true));
+	EasingType EASE_IN_OUT_QUINT = register("easeinoutquint", CurveEasing.inOut((t, n) -> Math.pow(t, 5), true));
+	EasingType EASE_IN_EXPO = register("easeinexpo", CurveEasing.in((t, n) -> exp(t), true));
+	EasingType EASE_OUT_EXPO = register("easeoutexpo", CurveEasing.out((t, n) -> exp(t), true));
+	EasingType EASE_IN_OUT_EXPO = register("easeinoutexpo", CurveEasing.inOut((t, n) -> exp(t), true));
+	EasingType EASE_IN_CIRC = register("easeincirc", CurveEasing.in((t, n) -> circle(t), false));
+	EasingType EASE_OUT_CIRC = register("easeoutcirc", CurveEasing.out((t, n) -> circle(t), false));
+	EasingType EASE_IN_OUT_CIRC = register("easeinoutcirc", CurveEasing.inOut((t, n) -> circle(t), false));
+	EasingType EASE_IN_BACK = register("easeinback", CurveEasing.in(EasingType::back, true));
+	EasingType EASE_OUT_BACK = register("easeoutback", CurveEasing.out(EasingType::back, true));
+	EasingType EASE_IN_OUT_BACK = register("easeinoutback", CurveEasing.inOut(EasingType::back, true));
+	EasingType EASE_IN_ELASTIC = register("easeinelastic", CurveEasing.in(EasingType::elastic, true));
+	EasingType EASE_OUT_ELASTIC = register("easeoutelastic", CurveEasing.out(EasingType::elastic, true));
+	EasingType EASE_IN_OUT_ELASTIC = register("easeinoutelastic", CurveEasing.inOut(EasingType::elastic, true));
+	EasingType EASE_IN_BOUNCE = register("easeinbounce", CurveEasing.in(EasingType::bounce, true));
+	EasingType EASE_OUT_BOUNCE = register("easeoutbounce", CurveEasing.out(EasingType::bounce, true));
+	EasingType EASE_IN_OUT_BOUNCE = register("easeinoutbounce", CurveEasing.inOut(EasingType::bounce, true));
 	EasingType CATMULLROM = register("catmullrom", new CatmullRomEasing());
 	EasingType BEZIER = register("bezier", new BezierEasingBefore());
 	EasingType BEZIER_AFTER = register("bezier_after", new BezierEasingAfter());
 
 	Double2DoubleFunction buildTransformer(@Nullable Double value);
 
+	/**
+	 * Primitive equivalent of {@link #buildTransformer(Double)}, applying this easing to the given lerp value without allocating a transformer
+	 * <p>
+	 * The default implementation defers to {@code buildTransformer} so that existing easing types continue to work unchanged,
+	 * override this to avoid the transformer allocation
+	 *
+	 * @param lerpValue The linear progress (0-1) through the transition
+	 * @param easingValue The easing value from the keyframe's {@link Keyframe#easingArgs()}, or {@link Double#NaN} if not provided
+	 * @return The eased progress through the transition
+	 */
+	default double ease(double lerpValue, double easingValue) {
+		return buildTransformer(Double.isNaN(easingValue) ? null : easingValue).apply(lerpValue);
+	}
+
 	static double lerpWithOverride(AnimationPoint animationPoint, EasingType override, AnimationState<?> animationState) {
+		return lerpWithOverride(animationPoint.keyFrame(), animationPoint.currentTick(), animationPoint.transitionLength(),
+								animationPoint.animationStartValue(), animationPoint.animationEndValue(), override, animationState);
+	}
+
+	/**
+	 * Primitive equivalent of {@link #lerpWithOverride(AnimationPoint, EasingType, AnimationState)}, to avoid needing to allocate an {@link AnimationPoint}
+	 *
+	 * @param keyFrame The {@code Nullable} Keyframe relevant to the point
+	 * @param currentTick The lerped tick time (current tick + partial tick) of the point
+	 * @param transitionLength The length of time (in ticks) that the point should take to transition
+	 * @param startValue The start value of the point
+	 * @param endValue The end value of the point
+	 * @param override The {@code Nullable} override EasingType to use instead of the keyframe's
+	 * @param animationState The AnimationState for the current render pass
+	 */
+	static double lerpWithOverride(@Nullable Keyframe<?> keyFrame, double currentTick, double transitionLength, double startValue, double endValue, @Nullable EasingType override, AnimationState<?> animationState) {
 		EasingType easingType = override;
 
 		if (override == null)
-			easingType = animationPoint.keyFrame() == null ? LINEAR : animationPoint.keyFrame().easingType();
+			easingType = keyFrame == null ? LINEAR : keyFrame.easingType();
+
+		// Easing types from outside GeckoLib may override the AnimationPoint overloads, so they keep being evaluated through them
+		if (!isBuiltinEasing(easingType))
+			return easingType.apply(new AnimationPoint(keyFrame, currentTick, transitionLength, startValue, endValue), animationState);
+
+		return easingType.apply(keyFrame, currentTick, transitionLength, startValue, endValue, animationState);
+	}
 
-		return easingType.apply(animationPoint, animationState);
+	/**
+	 * Whether the given {@code EasingType} is one of GeckoLib's own implementations, which are evaluated through the primitive overloads directly
+	 */
+	private static boolean isBuiltinEasing(EasingType easingType) {
+		return easingType instanceof CurveEasing || easingType.getClass() == CatmullRomEasing.class ||
+			   easingType.getClass() == BezierEasingBefore.class || easingType.getClass() == BezierEasingAfter.class;
 	}
 
 	default double apply(AnimationPoint animationPoint, AnimationState<?> animationState) {
@@ -86,10 +128,41 @@ public interface EasingType {
 	}
 
 	default double apply(AnimationPoint animationPoint, @Nullable Double easingValue, double lerpValue, AnimationState<?> animationState) {
+		if (isBuiltinEasing(this))
+			return apply(animationPoint.keyFrame(), animationPoint.currentTick(), animationPoint.transitionLength(),
+						 animationPoint.animationStartValue(), animationPoint.animationEndValue(), easingValue, lerpValue, animationState);
+
 		if (animationPoint.currentTick() >= animationPoint.transitionLength())
 			return (float)animationPoint.animationEndValue();
 
-		return Mth.lerp(buildTransformer(easingValue).apply(lerpValue), animationPoint.animationStartValue(), animationPoint.animationEndValue());
+		return Mth.lerp(ease(lerpValue, easingValue == null ? Double.NaN : easingValue), animationPoint.animationStartValue(), animationPoint.animationEndValue());
+	}
+
+	default double apply(@Nullable Keyframe<?> keyFrame, double currentTick, double transitionLength, double startValue, double endValue, AnimationState<?> animationState) {
+		double easingValue = Double.NaN;
+
+		if (keyFrame != null && !keyFrame.easingArgs().isEmpty())
+			easingValue = keyFrame.easingArgs().getFirst().get(animationState);
+
+		return apply(keyFrame, currentTick, transitionLength, startValue, endValue, easingValue, currentTick / transitionLength, animationState);
+	}
+
+	/**
+	 * Primitive equivalent of {@link #apply(Keyframe, double, double, double, double, Double, double, AnimationState)}
+	 * <p>
+	 * The default implementation defers to the boxed variant so that existing overrides of it continue to be used
+	 *
+	 * @param easingValue The easing value from the keyframe's {@link Keyframe#easingArgs()}, or {@link Double#NaN} if not provided
+	 */
+	default double apply(@Nullable Keyframe<?> keyFrame, double currentTick, double transitionLength, double startValue, double endValue, double easingValue, double lerpValue, AnimationState<?> animationState) {
+		return apply(keyFrame, currentTick, transitionLength, startValue, endValue, Double.isNaN(easingValue) ? null : Double.valueOf(easingValue), lerpValue, animationState);
+	}
+
+	default double apply(@Nullable Keyframe<?> keyFrame, double currentTick, double transitionLength, double startValue, double endValue, @Nullable Double easingValue, double lerpValue, AnimationState<?> animationState) {
+		if (currentTick >= transitionLength)
+			return (float)endValue;
+
+		return Mth.lerp(ease(lerpValue, easingValue == null ? Double.NaN : easingValue), startValue, endValue);
 	}
 
 	/**
@@ -274,9 +347,20 @@ public interface EasingType {
 	 * <a href="http://easings.net/#easeInElastic">Easings.net#easeInElastic</a>
 	 */
 	static Double2DoubleFunction elastic(Double n) {
-		double n2 = n == null ? 1 : n;
+		double n2 = n == null ? Double.NaN : n;
+
+		return t -> elastic(t, n2);
+	}
+
+	/**
+	 * Primitive equivalent of {@link #elastic(Double)}
+	 *
+	 * @param n The elasticity, or {@link Double#NaN} for the default
+	 */
+	static double elastic(double t, double n) {
+		double n2 = Double.isNaN(n) ? 1 : n;
 
-		return t -> 1 - Math.pow(Math.cos(t * Math.PI / 2f), 3) * Math.cos(t * n2 * Math.PI);
+		return 1 - Math.pow(Math.cos(t * Math.PI / 2f), 3) * Math.cos(t * n2 * Math.PI);
 	}
 
 	/**
@@ -289,14 +373,24 @@ public interface EasingType {
 	 * <a href="http://easings.net/#easeInBounce">Easings.net#easeInBounce</a>
 	 */
 	static Double2DoubleFunction bounce(Double n) {
-		final double n2 = n == null ? 0.5d : n;
+		final double n2 = n == null ? Double.NaN : n;
 
-		Double2DoubleFunction one = x -> 121f / 16f * x * x;
-		Double2DoubleFunction two = x -> 121f / 4f * n2 * Math.pow(x - 6f / 11f, 2) + 1 - n2;
-		Double2DoubleFunction three = x -> 121 * n2 * n2 * Math.pow(x - 9f / 11f, 2) + 1 - n2 * n2;
-		Double2DoubleFunction four = x -> 484 * n2 * n2 * n2 * Math.pow(x - 10.5f / 11f, 2) + 1 - n2 * n2 * n2;
+		return t -> bounce(t, n2);
+	}
 
-		return t -> Math.min(Math.min(one.apply(t), two.apply(t)), Math.min(three.apply(t), four.apply(t)));
+	/**
+	 * Primitive equivalent of {@link #bounce(Double)}
+	 *
+	 * @param n The bounciness, or {@link Double#NaN} for the default
+	 */
+	static double bounce(double t, double n) {
+		final double n2 = Double.isNaN(n) ? 0.5d : n;
+		double one = 121f / 16f * t * t;
+		double two = 121f / 4f * n2 * Math.pow(t - 6f / 11f, 2) + 1 - n2;
+		double three = 121 * n2 * n2 * Math.pow(t - 9f / 11f, 2) + 1 - n2 * n2;
+		double four = 484 * n2 * n2 * n2 * Math.pow(t - 10.5f / 11f, 2) + 1 - n2 * n2 * n2;
+
+		return Math.min(Math.min(one, two), Math.min(three, four));
 	}
 
 	/**
@@ -307,9 +401,20 @@ public interface EasingType {
 	 * <a href="https://easings.net/#easeInBack">Easings.net#easeInBack</a>
 	 */
 	static Double2DoubleFunction back(Double n) {
-		final double n2 = n == null ? 1.70158d : n * 1.70158d;
+		final double n2 = n == null ? Double.NaN : n;
+
+		return t -> back(t, n2);
+	}
 
-		return t -> t * t * ((n2 + 1) * t - n2);
+	/**
+	 * Primitive equivalent of {@link #back(Double)}
+	 *
+	 * @param n The back multiplier, or {@link Double#NaN} for the default
+	 */
+	static double back(double t, double n) {
+		final double n2 = Double.isNaN(n) ? 1.70158d : n * 1.70158d;
+
+		return t * t * ((n2 + 1) * t - n2);
 	}
 
 	/**
@@ -353,39 +458,169 @@ public interface EasingType {
 	static Double2DoubleFunction step(Double n) {
 		double n2 = n == null ? 2 : n;
 
+		if (n2 < 2)
+			throw new IllegalArgumentException("Steps must be >= 2, got: " + n2);
+
+		return t -> step(t, n2);
+	}
+
+	/**
+	 * Primitive equivalent of {@link #step(Double)}
+	 *
+	 * @param n The number of steps, or {@link Double#NaN} for the default
+	 */
+	static double step(double t, double n) {
+		double n2 = Double.isNaN(n) ? 2 : n;
+
 		if (n2 < 2)
 			throw new IllegalArgumentException("Steps must be >= 2, got: " + n2);
 
 		final int steps = (int)n2;
+		double result = 0;
+
+		if (t < 0)
+			return result;
 
-		return t -> {
-			double result = 0;
+		double stepLength = (1 / (double)steps);
 
-			if (t < 0)
-				return result;
+		if (t > (result = (steps - 1) * stepLength))
+			return result;
 
-			double stepLength = (1 / (double)steps);
+		int testIndex;
+		int leftBorderIndex = 0;
+		int rightBorderIndex = steps - 1;
 
-			if (t > (result = (steps - 1) * stepLength))
-				return result;
+		while (rightBorderIndex - leftBorderIndex != 1) {
+			testIndex = leftBorderIndex + (rightBorderIndex - leftBorderIndex) / 2;
 
-			int testIndex;
-			int leftBorderIndex = 0;
-			int rightBorderIndex = steps - 1;
+			if (t >= testIndex * stepLength) {
+				leftBorderIndex = testIndex;
+			}
+			else {
+				rightBorderIndex = testIndex;
+			}
+		}
 
-			while (rightBorderIndex - leftBorderIndex != 1) {
-				testIndex = leftBorderIndex + (rightBorderIndex - leftBorderIndex) / 2;
+		return leftBorderIndex * stepLength;
+	}
 
-				if (t >= testIndex * stepLength) {
-					leftBorderIndex = testIndex;
-				}
-				else {
-					rightBorderIndex = testIndex;
-				}
+	/**
+	 * Allocation-free EasingType implementation for the built-in easing curves
+	 * <p>
+	 * Evaluates its curve directly via {@link #ease(double, double)}, or from a lookup table if {@link EasingLookupTables enabled} and supported by the curve
+	 */
+	class CurveEasing implements EasingType {
+		private final Curve curve;
+		private final Direction direction;
+		private final boolean supportsLookupTable;
+		@Nullable
+		private volatile EasingLookupTables.LookupTable lookupTable = null;
+
+		public CurveEasing(Curve curve, Direction direction, boolean supportsLookupTable) {
+			this.curve = curve;
+			this.direction = direction;
+			this.supportsLookupTable = supportsLookupTable;
+		}
+
+		/**
+		 * Create a CurveEasing running the given curve forward in time
+		 *
+		 * @param supportsLookupTable Whether the curve is continuous and smooth enough over 0-1 to be approximated by a lookup table
+		 */
+		public static CurveEasing in(Curve curve, boolean supportsLookupTable) {
+			return new CurveEasing(curve, Direction.IN, supportsLookupTable);
+		}
+
+		/**
+		 * Create a CurveEasing running the given curve backwards in time
+		 *
+		 * @param supportsLookupTable Whether the curve is continuous and smooth enough over 0-1 to be approximated by a lookup table
+		 */
+		public static CurveEasing out(Curve curve, boolean supportsLookupTable) {
+			return new CurveEasing(curve, Direction.OUT, supportsLookupTable);
+		}
+
+		/**
+		 * Create a CurveEasing running the given curve both forwards and backwards in time based on the halfway point
+		 *
+		 * @param supportsLookupTable Whether the curve is continuous and smooth enough over 0-1 to be approximated by a lookup table
+		 */
+		public static CurveEasing inOut(Curve curve, boolean supportsLookupTable) {
+			return new CurveEasing(curve, Direction.IN_OUT, supportsLookupTable);
+		}
+
+		@Override
+		public Double2DoubleFunction buildTransformer(@Nullable Double value) {
+			final double easingValue = value == null ? Double.NaN : value;
+
+			return t -> ease(t, easingValue);
+		}
+
+		@Override
+		public double ease(double lerpValue, double easingValue) {
+			return switch (this.direction) {
+				case IN -> curve(lerpValue, easingValue);
+				case OUT -> 1 - curve(1 - lerpValue, easingValue);
+				case IN_OUT -> lerpValue < 0.5d ? curve(lerpValue * 2d, easingValue) / 2d : 1 - curve((1 - lerpValue) * 2d, easingValue) / 2d;
+			};
+		}
+
+		@Override
+		public double apply(@Nullable Keyframe<?> keyFrame, double currentTick, double transitionLength, double startValue, double endValue, double easingValue, double lerpValue, AnimationState<?> animationState) {
+			if (currentTick >= transitionLength)
+				return (float)endValue;
+
+			return Mth.lerp(ease(lerpValue, easingValue), startValue, endValue);
+		}
+
+		private double curve(double t, double easingValue) {
+			if (this.supportsLookupTable && Double.isNaN(easingValue) && t >= 0 && t <= 1) {
+				EasingLookupTables.LookupTable table = getLookupTable();
+
+				if (table != null)
+					return table.sample(t);
 			}
 
-			return leftBorderIndex * stepLength;
-		};
+			return this.curve.apply(t, easingValue);
+		}
+
+		/**
+		 * Get the lookup table for this easing's curve at the currently configured resolution, building it if necessary
+		 *
+		 * @return The lookup table, or null if lookup tables are disabled or not supported by this curve
+		 */
+		@Nullable
+		public EasingLookupTables.LookupTable getLookupTable() {
+			int resolution = EasingLookupTables.getResolution();
+
+			if (!this.supportsLookupTable || resolution <= 0)
+				return null;
+
+			EasingLookupTables.LookupTable table = this.lookupTable;
+
+			if (table == null || table.resolution() != resolution)
+				this.lookupTable = table = EasingLookupTables.LookupTable.build(this.curve, resolution);
+
+			return table;
+		}
+
+		/**
+		 * A primitive easing curve over 0-1
+		 */
+		@FunctionalInterface
+		public interface Curve {
+			/**
+			 * @param t The progress (0-1) through the curve
+			 * @param easingValue The easing value from the keyframe's {@link Keyframe#easingArgs()}, or {@link Double#NaN} if not provided
+			 */
+			double apply(double t, double easingValue);
+		}
+
+		public enum Direction {
+			IN,
+			OUT,
+			IN_OUT
+		}
 	}
 
 	/**
@@ -415,16 +650,16 @@ public interface EasingType {
 		}
 
 		@Override
-		public double apply(AnimationPoint animationPoint, Double easingValue, double lerpValue, AnimationState<?> animationState) {
-			if (animationPoint.currentTick() >= animationPoint.transitionLength())
-				return animationPoint.animationEndValue();
+		public double apply(@Nullable Keyframe<?> keyFrame, double currentTick, double transitionLength, double startValue, double endValue, @Nullable Double easingValue, double lerpValue, AnimationState<?> animationState) {
+			if (currentTick >= transitionLength)
+				return endValue;
 
-			List<? extends MathValue> easingArgs = animationPoint.keyFrame().easingArgs();
+			List<? extends MathValue> easingArgs = keyFrame == null ? List.of() : keyFrame.easingArgs();
 
 			if (easingArgs.size() < 2)
-				return Mth.lerp(buildTransformer(easingValue).apply(lerpValue), animationPoint.animationStartValue(), animationPoint.animationEndValue());
+				return Mth.lerp(buildTransformer(easingValue).apply(lerpValue), startValue, endValue);
 
-			return getPointOnSpline(lerpValue, easingArgs.get(0).get(animationState), animationPoint.animationStartValue(), animationPoint.animationEndValue(), easingArgs.get(1).get(animationState));
+			return getPointOnSpline(lerpValue, easingArgs.get(0).get(animationState), startValue, endValue, easingArgs.get(1).get(animationState));
 		}
 	}
 
@@ -437,10 +672,10 @@ public interface EasingType {
 		abstract boolean isEasingBefore();
 
 		@Override
-		public double apply(AnimationPoint animationPoint, Double easingValue, double lerpValue, AnimationState<?> animationState) {
-			List<? extends MathValue> easingArgs = animationPoint.keyFrame().easingArgs();
+		public double apply(@Nullable Keyframe<?> keyFrame, double currentTick, double transitionLength, double startValue, double endValue, @Nullable Double easingValue, double lerpValue, AnimationState<?> animationState) {
+			List<? extends MathValue> easingArgs = keyFrame == null ? List.of() : keyFrame.easingArgs();
 			if (easingArgs.isEmpty())
-				return Mth.lerp(buildTransformer(easingValue).apply(lerpValue), animationPoint.animationStartValue(), animationPoint.animationEndValue());
+				return Mth.lerp(buildTransformer(easingValue).apply(lerpValue), startValue, endValue);
 
 			double rightValue = isEasingBefore() ? 0 : easingArgs.getFirst().get(animationState);
 			double rightTime = isEasingBefore() ? 0.1 : easingArgs.get(1).get(animationState);
@@ -455,16 +690,16 @@ public interface EasingType {
 			leftValue = Math.toRadians(leftValue);
 			rightValue = Math.toRadians(rightValue);
 
-			double gapTime = animationPoint.transitionLength()/20;
+			double gapTime = transitionLength/20;
 
 			double time_handle_before = Math.clamp(rightTime, 0, gapTime);
 			double time_handle_after  = Math.clamp(leftTime, -gapTime, 0);
 
 			CubicBezierCurve curve = new CubicBezierCurve(
-					new Vector2d(0, animationPoint.animationStartValue()),
-					new Vector2d(time_handle_before, animationPoint.animationStartValue() + rightValue),
-					new Vector2d(time_handle_after + gapTime, animationPoint.animationEndValue() + leftValue),
-					new Vector2d(gapTime, animationPoint.animationEndValue()));
+					new Vector2d(0, startValue),
+					new Vector2d(time_handle_before, startValue + rightValue),
+					new Vector2d(time_handle_after + gapTime, endValue + leftValue),
+					new Vector2d(gapTime, endValue));
 			double time = gapTime * lerpValue;
 
 			List<Vector2d> points = curve.getPoints(200);
@@ -5,7 +5,9 @@ import org.jetbrains.annotations.ApiStatus;
 import software.bernie.geckolib.animatable.processing.AnimationController;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -16,11 +18,21 @@ import java.util.stream.Collectors;
  * <p>
  * RawAnimation instances should be cached statically where possible to reduce overheads and improve efficiency
  * <p>
+ * Instances passed to an {@link AnimationController} are {@link #intern() interned}, so that equal animation chains share a single canonical instance
+ * and can be compared by reference.<br>
+ * Interned instances can't be modified, so RawAnimations retrieved from a controller should be {@link #copyOf copied} before being appended to
+ * <p>
  * Example usage:
  * <pre>{@code RawAnimation.begin().thenPlay("action.open_box").thenLoop("state.stay_open")}</pre>
  */
 public final class RawAnimation {
+	private static final int MAX_INTERNED = 4096;
+	private static volatile Map<RawAnimation, RawAnimation> internTable = new ConcurrentHashMap<>();
+	private static volatile Map<RawAnimation, RawAnimation> previousInternTable = Map.of();
+
 	private final List<Stage> animationList = new ObjectArrayList<>();
+	private int hash = 0;
+	private boolean interned = false;
 
 	// Private constructor to force usage of factory for logical operations
 	private RawAnimation() {}
@@ -61,6 +73,7 @@ public final class RawAnimation {
 	 * @param ticks The number of ticks to 'wait' for
 	 */
 	public RawAnimation thenWait(int ticks) {
+		checkMutable();
 		this.animationList.add(new Stage(Stage.WAIT, Animation.LoopType.PLAY_ONCE, ticks));
 
 		return this;
@@ -98,6 +111,7 @@ public final class RawAnimation {
 	 * @param loopType The loop type handler for the animation, overriding the default value set in the animation json
 	 */
 	public RawAnimation then(String animationName, Animation.LoopType loopType) {
+		checkMutable();
 		this.animationList.add(new Stage(animationName, loopType));
 
 		return this;
@@ -123,6 +137,65 @@ public final class RawAnimation {
 		return newInstance;
 	}
 
+	/**
+	 * Get the canonical instance of this RawAnimation
+	 * <p>
+	 * The canonical instance is an immutable copy of the first equal RawAnimation interned, and can be compared against other interned instances by reference.<br>
+	 * This instance itself is left unchanged, and can continue to be modified
+	 * <p>
+	 * Canonical instances are kept in two generations, with the older generation discarded each time the newer one fills up.
+	 * Instances found in the older generation are carried over, so only animations that haven't been interned for a full generation are given a new canonical instance
+	 *
+	 * @return The interned instance equal to this RawAnimation
+	 */
+	@ApiStatus.Internal
+	public RawAnimation intern() {
+		if (this.interned)
+			return this;
+
+		RawAnimation canonical = internTable.get(this);
+
+		if (canonical != null)
+			return canonical;
+
+		synchronized (RawAnimation.class) {
+			canonical = internTable.get(this);
+
+			if (canonical != null)
+				return canonical;
+
+			canonical = previousInternTable.get(this);
+
+			if (canonical == null) {
+				canonical = copyOf(this);
+				canonical.interned = true;
+			}
+
+			if (internTable.size() >= MAX_INTERNED / 2) {
+				previousInternTable = internTable;
+				internTable = new ConcurrentHashMap<>();
+			}
+
+			internTable.put(canonical, canonical);
+
+			return canonical;
+		}
+	}
+
+	/**
+	 * Whether this RawAnimation is a canonical {@link #intern() interned} instance, and therefore can no longer be modified
+	 */
+	public boolean isInterned() {
+		return this.interned;
+	}
+
+	private void checkMutable() {
+		if (this.interned)
+			throw new IllegalStateException("Attempted to modify an interned RawAnimation: " + this);
+
+		this.hash = 0;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj)
@@ -131,12 +204,15 @@ public final class RawAnimation {
 		if (obj == null || getClass() != obj.getClass())
 			return false;
 
-		return hashCode() == obj.hashCode();
+		return hashCode() == obj.hashCode() && this.animationList.equals(((RawAnimation)obj).animationList);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.animationList);
+		if (this.hash == 0)
+			this.hash = Objects.hash(this.animationList);
+
+		return this.hash;
 	}
 
 	@Override
@@ -165,7 +241,9 @@ public final class RawAnimation {
 			if (obj == null || getClass() != obj.getClass())
 				return false;
 
-			return hashCode() == obj.hashCode();
+			Stage other = (Stage)obj;
+
+			return this.additionalTicks == other.additionalTicks && this.animationName.equals(other.animationName) && this.loopType.equals(other.loopType);
 		}
 
 		@Override
@@ -175,7 +253,7 @@ public final class RawAnimation {
 
 		@Override
 		public int hashCode() {
-			return Objects.hash(this.animationName, this.loopType);
+			return Objects.hash(this.animationName, this.loopType, this.additionalTicks);
 		}
 	}
 }
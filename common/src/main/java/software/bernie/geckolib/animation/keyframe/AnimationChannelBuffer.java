@@ -0,0 +1,237 @@
+package software.bernie.geckolib.animation.keyframe;
+
+import org.jetbrains.annotations.Nullable;
+import software.bernie.geckolib.animatable.processing.AnimationController;
+import software.bernie.geckolib.animatable.processing.AnimationProcessor;
+import software.bernie.geckolib.cache.object.GeoBone;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Reusable per-controller storage for the animation points computed by an {@link AnimationController} each frame
+ * <p>
+ * Each {@link GeoBone} uses its {@link GeoBone#getIndex() model index} as its slot, and each slot holds a rotation, position, and scale channel,
+ * with each channel holding an X, Y, and Z point.<br>
+ * Points are written in-place and invalidated by advancing the buffer's generation, so no objects are allocated once the buffer has warmed up
+ * <p>
+ * Additionally holds a keyframe cursor for each axis, storing the index of the last {@link Keyframe} found for it to speed up the next lookup
+ * <p>
+ * The slots written to each frame are tracked in a {@link #getActiveSlots() bone mask}, so that consumers only need to iterate the bones
+ * the controller actually animates, rather than every bone in the model
+ * <p>
+ * Consumed by the {@link AnimationProcessor} to apply the computed transformations to each bone
+ */
+public final class AnimationChannelBuffer {
+	public static final int ROTATION = 0;
+	public static final int POSITION = 1;
+	public static final int SCALE = 2;
+	public static final int CHANNEL_COUNT = 3;
+
+	private static final int AXIS_COUNT = 3;
+	private static final int POINT_STRIDE = 4;
+	private static final int TICK = 0;
+	private static final int LENGTH = 1;
+	private static final int START_VALUE = 2;
+	private static final int END_VALUE = 3;
+
+	private GeoBone[] bones = new GeoBone[0];
+	private int[] channelGenerations = new int[0];
+	private int[] interleavedGenerations = new int[0];
+	private double[] points = new double[0];
+	private Keyframe<?>[] keyframes = new Keyframe<?>[0];
+	private int[] keyframeCursors = new int[0];
+	private final BitSet activeSlots = new BitSet();
+	private int slotCount = 0;
+	private int generation = 1;
+
+	/**
+	 * Invalidate all points currently in the buffer, ready for the next frame
+	 */
+	public void nextFrame() {
+		this.generation++;
+		this.activeSlots.clear();
+	}
+
+	/**
+	 * Completely empty the buffer, discarding all bone slots
+	 * <p>
+	 * Should be called when the bones being animated are no longer valid, such as after a resource reload
+	 */
+	public void clear() {
+		this.slotCount = 0;
+		Arrays.fill(this.bones, null);
+		Arrays.fill(this.keyframes, null);
+		Arrays.fill(this.channelGenerations, 0);
+		Arrays.fill(this.interleavedGenerations, 0);
+		Arrays.fill(this.keyframeCursors, -1);
+		this.activeSlots.clear();
+
+		this.generation = 1;
+	}
+
+	/**
+	 * Get the number of bone slots currently in use in this buffer, which is one more than the highest slot used
+	 * <p>
+	 * Not all slots will necessarily have been written to this frame
+	 */
+	public int getSlotCount() {
+		return this.slotCount;
+	}
+
+	/**
+	 * Get the {@link GeoBone} assigned to the given slot, or null if no bone has used it
+	 */
+	@Nullable
+	public GeoBone getBone(int slot) {
+		return this.bones[slot];
+	}
+
+	/**
+	 * Get the slot for the given {@link GeoBone}, which is its index in its model
+	 * <p>
+	 * If the slot was previously used by a different bone (such as from a different model), its keyframe cursors are reset
+	 */
+	public int getSlot(GeoBone bone) {
+		int slot = bone.getIndex();
+
+		ensureCapacity(slot + 1);
+
+		if (this.bones[slot] != bone) {
+			int cursorIndex = slot * CHANNEL_COUNT * AXIS_COUNT;
+
+			this.bones[slot] = bone;
+			Arrays.fill(this.keyframeCursors, cursorIndex, cursorIndex + CHANNEL_COUNT * AXIS_COUNT, -1);
+		}
+
+		if (slot >= this.slotCount)
+			this.slotCount = slot + 1;
+
+		return slot;
+	}
+
+	/**
+	 * Get the mask of bone slots that have had at least one channel written to since the last call to {@link #nextFrame()}
+	 * <p>
+	 * If the buffer hasn't been advanced since (such as when its controller was skipped for a frame), this remains the mask from the last frame it was written to
+	 * <p>
+	 * The returned BitSet is live, and should not be modified
+	 */
+	public BitSet getActiveSlots() {
+		return this.activeSlots;
+	}
+
+	/**
+	 * Whether the given channel for the given slot has been written to since the last call to {@link #nextFrame()}
+	 *
+	 * @param slot The bone slot
+	 * @param channel The channel; one of {@link #ROTATION}, {@link #POSITION}, or {@link #SCALE}
+	 */
+	public boolean hasChannel(int slot, int channel) {
+		return this.channelGenerations[slot * CHANNEL_COUNT + channel] == this.generation;
+	}
+
+	/**
+	 * Write a point to the buffer for the given slot, channel, and axis
+	 * <p>
+	 * The channel is marked as present for this frame once its Z-axis point is written
+	 *
+	 * @param slot The bone slot
+	 * @param channel The channel; one of {@link #ROTATION}, {@link #POSITION}, or {@link #SCALE}
+	 * @param axis The axis index (0 = X, 1 = Y, 2 = Z)
+	 * @param keyframe The {@code Nullable} Keyframe relevant to the point
+	 * @param tick The lerped time (current tick + partial tick) that the point starts at
+	 * @param transitionLength The length of the transition
+	 * @param startValue The value of the point at the start of its transition
+	 * @param endValue The value of the point at the end of its transition
+	 */
+	public void setPoint(int slot, int channel, int axis, @Nullable Keyframe<?> keyframe, double tick, double transitionLength, double startValue, double endValue) {
+		int pointIndex = (slot * CHANNEL_COUNT + channel) * AXIS_COUNT + axis;
+		int valueIndex = pointIndex * POINT_STRIDE;
+
+		this.keyframes[pointIndex] = keyframe;
+		this.points[valueIndex + TICK] = tick;
+		this.points[valueIndex + LENGTH] = transitionLength;
+		this.points[valueIndex + START_VALUE] = startValue;
+		this.points[valueIndex + END_VALUE] = endValue;
+
+		if (axis == AXIS_COUNT - 1) {
+			this.channelGenerations[slot * CHANNEL_COUNT + channel] = this.generation;
+			this.activeSlots.set(slot);
+		}
+	}
+
+	/**
+	 * Mark the given channel for the given slot as interleaved for this frame
+	 * <p>
+	 * Interleaved channels have all three of their points written from the same keyframe index of an {@link KeyframeStack#isInterleaved() interleaved}
+	 * {@link KeyframeStack}, and so share the same tick and transition length across all three axes
+	 *
+	 * @param slot The bone slot
+	 * @param channel The channel; one of {@link #ROTATION}, {@link #POSITION}, or {@link #SCALE}
+	 */
+	public void markInterleaved(int slot, int channel) {
+		this.interleavedGenerations[slot * CHANNEL_COUNT + channel] = this.generation;
+	}
+
+	/**
+	 * Whether the given channel for the given slot was {@link #markInterleaved marked as interleaved} since the last call to {@link #nextFrame()}
+	 */
+	public boolean isInterleaved(int slot, int channel) {
+		return this.interleavedGenerations[slot * CHANNEL_COUNT + channel] == this.generation;
+	}
+
+	@Nullable
+	public Keyframe<?> getKeyframe(int slot, int channel, int axis) {
+		return this.keyframes[(slot * CHANNEL_COUNT + channel) * AXIS_COUNT + axis];
+	}
+
+	public double getTick(int slot, int channel, int axis) {
+		return this.points[((slot * CHANNEL_COUNT + channel) * AXIS_COUNT + axis) * POINT_STRIDE + TICK];
+	}
+
+	public double getTransitionLength(int slot, int channel, int axis) {
+		return this.points[((slot * CHANNEL_COUNT + channel) * AXIS_COUNT + axis) * POINT_STRIDE + LENGTH];
+	}
+
+	public double getStartValue(int slot, int channel, int axis) {
+		return this.points[((slot * CHANNEL_COUNT + channel) * AXIS_COUNT + axis) * POINT_STRIDE + START_VALUE];
+	}
+
+	public double getEndValue(int slot, int channel, int axis) {
+		return this.points[((slot * CHANNEL_COUNT + channel) * AXIS_COUNT + axis) * POINT_STRIDE + END_VALUE];
+	}
+
+	/**
+	 * Get the index of the last {@link Keyframe} found for the given slot, channel, and axis, or -1 if none
+	 *
+	 * @see KeyframeStack#findKeyframeIndex
+	 */
+	public int getKeyframeCursor(int slot, int channel, int axis) {
+		return this.keyframeCursors[(slot * CHANNEL_COUNT + channel) * AXIS_COUNT + axis];
+	}
+
+	/**
+	 * Set the index of the last {@link Keyframe} found for the given slot, channel, and axis
+	 */
+	public void setKeyframeCursor(int slot, int channel, int axis, int keyframeIndex) {
+		this.keyframeCursors[(slot * CHANNEL_COUNT + channel) * AXIS_COUNT + axis] = keyframeIndex;
+	}
+
+	private void ensureCapacity(int slots) {
+		if (this.bones.length >= slots)
+			return;
+
+		int newSize = Math.max(slots, this.bones.length * 2);
+		int oldCursorCount = this.keyframeCursors.length;
+
+		this.bones = Arrays.copyOf(this.bones, newSize);
+		this.channelGenerations = Arrays.copyOf(this.channelGenerations, newSize * CHANNEL_COUNT);
+		this.interleavedGenerations = Arrays.copyOf(this.interleavedGenerations, newSize * CHANNEL_COUNT);
+		this.keyframes = Arrays.copyOf(this.keyframes, newSize * CHANNEL_COUNT * AXIS_COUNT);
+		this.keyframeCursors = Arrays.copyOf(this.keyframeCursors, newSize * CHANNEL_COUNT * AXIS_COUNT);
+		this.points = Arrays.copyOf(this.points, newSize * CHANNEL_COUNT * AXIS_COUNT * POINT_STRIDE);
+
+		Arrays.fill(this.keyframeCursors, oldCursorCount, this.keyframeCursors.length, -1);
+	}
+}
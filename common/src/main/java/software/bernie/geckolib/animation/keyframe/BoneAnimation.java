@@ -2,8 +2,10 @@ package software.bernie.geckolib.animation.keyframe;
 
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import software.bernie.geckolib.loading.math.MathValue;
+import software.bernie.geckolib.loading.math.compile.MolangOptimizer;
 import software.bernie.geckolib.loading.math.value.Variable;
 
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -32,4 +34,27 @@ public record BoneAnimation(String boneName,
 
 		return usedVariables;
 	}
+
+	/**
+	 * Whether all expressions in this bone animation are {@link MolangOptimizer#isSideEffectFree free of side effects}, such as variable assignments or random values
+	 */
+	public boolean isSideEffectFree() {
+		return isSideEffectFree(this.rotationKeyFrames) && isSideEffectFree(this.positionKeyFrames) && isSideEffectFree(this.scaleKeyFrames);
+	}
+
+	private static boolean isSideEffectFree(KeyframeStack<Keyframe<MathValue>> stack) {
+		for (List<Keyframe<MathValue>> keyframes : List.of(stack.xKeyframes(), stack.yKeyframes(), stack.zKeyframes())) {
+			for (Keyframe<MathValue> keyframe : keyframes) {
+				if (!MolangOptimizer.isSideEffectFree(keyframe.startValue()) || !MolangOptimizer.isSideEffectFree(keyframe.endValue()))
+					return false;
+
+				for (MathValue easingArg : keyframe.easingArgs()) {
+					if (!MolangOptimizer.isSideEffectFree(easingArg))
+						return false;
+				}
+			}
+		}
+
+		return true;
+	}
 }
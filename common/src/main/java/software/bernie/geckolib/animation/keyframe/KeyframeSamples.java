@@ -0,0 +1,206 @@
+package software.bernie.geckolib.animation.keyframe;
+
+import org.jetbrains.annotations.Nullable;
+import software.bernie.geckolib.GeckoLibConstants;
+import software.bernie.geckolib.animation.EasingType;
+import software.bernie.geckolib.loading.math.MathValue;
+import software.bernie.geckolib.loading.math.value.Constant;
+
+import java.util.List;
+
+/**
+ * Pre-sampled values for a fully constant {@link KeyframeStack}, baked at a fixed rate at load time
+ * <p>
+ * Allows playback of the stack to be done via a simple array lookup and linear interpolation between the two nearest samples,
+ * skipping the keyframe lookup, {@link MathValue} evaluation, and {@link EasingType} computation entirely.
+ * <p>
+ * The maximum deviation from the keyframe-evaluated value is the error of linearly interpolating the eased curve over a single sample interval.
+ * Stacks with discontinuities (step easing, or keyframes shorter than the sample interval) are not sampled, and each sampled stack is checked against
+ * its keyframe-evaluated values at several evenly spaced points within every sample interval, being left unsampled if it deviates by more than the
+ * {@link #setMaxError maximum error} at any of them. Checking more than just the midpoint matters for eased curves such as elastic or back easing,
+ * where the interpolation error peaks wherever the curve bends hardest rather than in the middle of the interval
+ *
+ * @param interval The length of time (in ticks) between each sample
+ * @param xSamples The sampled values for the X axis
+ * @param ySamples The sampled values for the Y axis
+ * @param zSamples The sampled values for the Z axis
+ */
+public record KeyframeSamples(double interval, float[] xSamples, float[] ySamples, float[] zSamples) {
+	private static final int MAX_SAMPLES = 4096;
+	private static final int CHECKS_PER_INTERVAL = 16;
+	private static int sampleRate = 60;
+	private static double maxError = 0.005;
+	private static boolean loggedSamplingFailure = false;
+
+	/**
+	 * Set the rate (in samples per second) that constant keyframe stacks are sampled at when animations are loaded, or 0 to disable sampling
+	 * <p>
+	 * Takes effect on the next resource reload
+	 */
+	public static void setSampleRate(int samplesPerSecond) {
+		sampleRate = Math.max(0, samplesPerSecond);
+	}
+
+	public static int getSampleRate() {
+		return sampleRate;
+	}
+
+	/**
+	 * Set the maximum deviation from the keyframe-evaluated value that a sampled stack may have at any point, in the units of the stack's values
+	 * (radians for rotation, pixels for position)
+	 * <p>
+	 * Takes effect on the next resource reload
+	 */
+	public static void setMaxError(double error) {
+		maxError = Math.max(0, error);
+	}
+
+	public static double getMaxError() {
+		return maxError;
+	}
+
+	/**
+	 * Get the samples array for the given axis index (0 = X, 1 = Y, 2 = Z)
+	 */
+	public float[] getSamples(int axis) {
+		return switch (axis) {
+			case 0 -> this.xSamples;
+			case 1 -> this.ySamples;
+			default -> this.zSamples;
+		};
+	}
+
+	/**
+	 * Attempt to sample the given {@link KeyframeStack} at the current {@link #setSampleRate sample rate}
+	 *
+	 * @return The samples for the stack, or null if the stack isn't suitable for sampling
+	 */
+	@Nullable
+	public static <T extends Keyframe<?>> KeyframeSamples sample(KeyframeStack<T> stack) {
+		if (sampleRate <= 0)
+			return null;
+
+		double interval = 20d / sampleRate;
+
+		if (!canSample(stack.xKeyframes(), interval) || !canSample(stack.yKeyframes(), interval) || !canSample(stack.zKeyframes(), interval))
+			return null;
+
+		double length = stack.getLastKeyframeTime();
+		int sampleCount = (int)Math.ceil(length / interval) + 1;
+
+		if (sampleCount > MAX_SAMPLES)
+			return null;
+
+		try {
+			float[] xSamples = sampleAxis(stack.xKeyframes(), stack.xStartTimes(), interval, sampleCount);
+			float[] ySamples = sampleAxis(stack.yKeyframes(), stack.yStartTimes(), interval, sampleCount);
+			float[] zSamples = sampleAxis(stack.zKeyframes(), stack.zStartTimes(), interval, sampleCount);
+
+			if (!isWithinMaxError(xSamples, stack.xKeyframes(), stack.xStartTimes(), interval) ||
+				!isWithinMaxError(ySamples, stack.yKeyframes(), stack.yStartTimes(), interval) ||
+				!isWithinMaxError(zSamples, stack.zKeyframes(), stack.zStartTimes(), interval))
+				return null;
+
+			return new KeyframeSamples(interval, xSamples, ySamples, zSamples);
+		}
+		catch (RuntimeException ex) {
+			// Custom easing types may require an AnimationState, in which case they can't be sampled ahead of time
+			if (!loggedSamplingFailure) {
+				loggedSamplingFailure = true;
+
+				GeckoLibConstants.LOGGER.warn("Unable to pre-sample keyframes, falling back to keyframe evaluation. Further failures will be logged at debug level", ex);
+			}
+			else {
+				GeckoLibConstants.LOGGER.debug("Unable to pre-sample keyframes, falling back to keyframe evaluation", ex);
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * Whether the given keyframes are constant and continuous, making them suitable for sampling
+	 */
+	private static boolean canSample(List<? extends Keyframe<?>> keyframes, double interval) {
+		if (keyframes.size() < 2)
+			return false;
+
+		for (int i = 0; i < keyframes.size(); i++) {
+			Keyframe<?> keyframe = keyframes.get(i);
+
+			if (!(keyframe.startValue() instanceof Constant) || !(keyframe.endValue() instanceof Constant))
+				return false;
+
+			if (keyframe.easingType() == EasingType.STEP || (i > 0 && keyframe.length() < interval))
+				return false;
+
+			for (MathValue easingArg : keyframe.easingArgs()) {
+				if (!(easingArg instanceof Constant))
+					return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static float[] sampleAxis(List<? extends Keyframe<?>> keyframes, double[] startTimes, double interval, int sampleCount) {
+		float[] samples = new float[sampleCount];
+		double length = startTimes[startTimes.length - 1];
+
+		for (int i = 0; i < sampleCount; i++) {
+			samples[i] = (float)evaluate(keyframes, startTimes, Math.min(i * interval, length));
+		}
+
+		return samples;
+	}
+
+	/**
+	 * Check the linearly-interpolated samples for an axis against its keyframe-evaluated values at evenly spaced points within each sample interval
+	 * <p>
+	 * Between two adjacent checked points the error can only grow by the curvature of the eased curve over 1/{@value #CHECKS_PER_INTERVAL} of an interval,
+	 * which is a negligible fraction of the interpolation error being checked for
+	 *
+	 * @return Whether the samples stay within the {@link #setMaxError maximum error} at every checked point
+	 */
+	private static boolean isWithinMaxError(float[] samples, List<? extends Keyframe<?>> keyframes, double[] startTimes, double interval) {
+		double length = startTimes[startTimes.length - 1];
+
+		for (int i = 0; i < samples.length - 1; i++) {
+			for (int step = 1; step < CHECKS_PER_INTERVAL; step++) {
+				double tick = (i + step / (double)CHECKS_PER_INTERVAL) * interval;
+
+				if (tick > length)
+					return true;
+
+				if (Math.abs(interpolate(samples, interval, tick) - evaluate(keyframes, startTimes, tick)) > maxError)
+					return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Linearly interpolate the given samples at the given tick, matching how sampled stacks are played back
+	 */
+	static double interpolate(float[] samples, double interval, double tick) {
+		double position = tick / interval;
+		int index = (int)position;
+
+		if (index >= samples.length - 1)
+			return samples[samples.length - 1];
+
+		return samples[index] + (position - index) * (samples[index + 1] - samples[index]);
+	}
+
+	/**
+	 * Compute the keyframe-evaluated value of an axis at the given tick
+	 */
+	static double evaluate(List<? extends Keyframe<?>> keyframes, double[] startTimes, double tick) {
+		int frameIndex = KeyframeStack.findKeyframeIndex(startTimes, tick, -1);
+		Keyframe<?> keyframe = frameIndex == -1 ? keyframes.getLast() : keyframes.get(frameIndex);
+		double frameTick = frameIndex == -1 ? tick : tick - startTimes[frameIndex];
+
+		return EasingType.lerpWithOverride(keyframe, frameTick, keyframe.length(), keyframe.startValue().get(null), keyframe.endValue().get(null), null, null);
+	}
+}
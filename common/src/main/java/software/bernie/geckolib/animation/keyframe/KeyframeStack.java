@@ -2,6 +2,7 @@ package software.bernie.geckolib.animation.keyframe;
 
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.loading.math.value.Variable;
 
 import java.util.List;
@@ -9,12 +10,51 @@ import java.util.Set;
 
 /**
  * Stores a triplet of {@link Keyframe Keyframes} in an ordered stack
+ * <p>
+ * Each axis also has a precomputed array of cumulative keyframe start times, allowing for the active keyframe to be found via binary search.<br>
+ * Each start time array has one more entry than its keyframe list, with the final entry being the end time of the last keyframe
+ * <p>
+ * When all three axes share the same keyframe timing (as is almost always the case for Blockbench exports), the stack is <i>interleaved</i>;
+ * all three axes share a single start time array instance, allowing all three to be resolved with a single lookup.
+ * See {@link #isInterleaved()}
+ * <p>
+ * Fully constant stacks may additionally hold {@link KeyframeSamples pre-sampled values}, baked at load time
  */
-public record KeyframeStack<T extends Keyframe<?>>(List<T> xKeyframes, List<T> yKeyframes, List<T> zKeyframes) {
+public record KeyframeStack<T extends Keyframe<?>>(List<T> xKeyframes, List<T> yKeyframes, List<T> zKeyframes, double[] xStartTimes, double[] yStartTimes, double[] zStartTimes, @Nullable KeyframeSamples samples) {
 	public KeyframeStack() {
 		this(new ObjectArrayList<>(), new ObjectArrayList<>(), new ObjectArrayList<>());
 	}
 
+	public KeyframeStack(List<T> xKeyframes, List<T> yKeyframes, List<T> zKeyframes) {
+		this(xKeyframes, yKeyframes, zKeyframes, computeStartTimes(xKeyframes));
+	}
+
+	private KeyframeStack(List<T> xKeyframes, List<T> yKeyframes, List<T> zKeyframes, double[] xStartTimes) {
+		this(xKeyframes, yKeyframes, zKeyframes, xStartTimes,
+			 hasMatchingTimes(xKeyframes, yKeyframes) ? xStartTimes : computeStartTimes(yKeyframes),
+			 hasMatchingTimes(xKeyframes, zKeyframes) ? xStartTimes : computeStartTimes(zKeyframes));
+	}
+
+	public KeyframeStack(List<T> xKeyframes, List<T> yKeyframes, List<T> zKeyframes, double[] xStartTimes, double[] yStartTimes, double[] zStartTimes) {
+		this(xKeyframes, yKeyframes, zKeyframes, xStartTimes, yStartTimes, zStartTimes, null);
+	}
+
+	/**
+	 * Create a copy of this stack with the given pre-sampled values
+	 */
+	public KeyframeStack<T> withSamples(@Nullable KeyframeSamples samples) {
+		return new KeyframeStack<>(this.xKeyframes, this.yKeyframes, this.zKeyframes, this.xStartTimes, this.yStartTimes, this.zStartTimes, samples);
+	}
+
+	/**
+	 * Whether all three axes of this stack share the same keyframe timing, and therefore the same start time array
+	 * <p>
+	 * Interleaved stacks always have the same number of keyframes per axis, and the keyframe active at any given tick has the same index on all three axes
+	 */
+	public boolean isInterleaved() {
+		return this.xStartTimes == this.yStartTimes && this.xStartTimes == this.zStartTimes;
+	}
+
 	/**
 	 * Extract and collect all {@link Variable}s used in this keyframe stack
 	 */
@@ -37,22 +77,80 @@ public record KeyframeStack<T extends Keyframe<?>>(List<T> xKeyframes, List<T> y
 	}
 
 	public double getLastKeyframeTime() {
-		double xTime = 0;
-		double yTime = 0;
-		double zTime = 0;
+		return Math.max(this.xStartTimes[this.xStartTimes.length - 1], Math.max(this.yStartTimes[this.yStartTimes.length - 1], this.zStartTimes[this.zStartTimes.length - 1]));
+	}
+
+	/**
+	 * Build the cumulative start time array for a given list of {@link Keyframe Keyframes}
+	 */
+	public static double[] computeStartTimes(List<? extends Keyframe<?>> keyframes) {
+		double[] startTimes = new double[keyframes.size() + 1];
+		double totalFrameTime = 0;
 
-		for (T frame : xKeyframes()) {
-			xTime += frame.length();
+		for (int i = 0; i < keyframes.size(); i++) {
+			startTimes[i] = totalFrameTime;
+			totalFrameTime += keyframes.get(i).length();
 		}
 
-		for (T frame : yKeyframes()) {
-			yTime += frame.length();
+		startTimes[keyframes.size()] = totalFrameTime;
+
+		return startTimes;
+	}
+
+	/**
+	 * Whether the two given lists of {@link Keyframe Keyframes} have exactly the same keyframe lengths, and so can share a start time array
+	 */
+	private static boolean hasMatchingTimes(List<? extends Keyframe<?>> keyframes, List<? extends Keyframe<?>> otherKeyframes) {
+		if (keyframes.size() != otherKeyframes.size())
+			return false;
+
+		for (int i = 0; i < keyframes.size(); i++) {
+			if (keyframes.get(i).length() != otherKeyframes.get(i).length())
+				return false;
 		}
 
-		for (T frame : zKeyframes()) {
-			zTime += frame.length();
+		return true;
+	}
+
+	/**
+	 * Find the index of the {@link Keyframe} active at the given tick, using a previously found index as a starting point
+	 * <p>
+	 * Checks the hinted keyframe and the one following it first, so that continuous playback doesn't need to search at all,
+	 * falling back to a binary search for loops and jumps in time
+	 *
+	 * @param startTimes The cumulative start times array for the keyframes
+	 * @param tick The tick time to find the keyframe for
+	 * @param hint The index of the keyframe last found for this list, or -1 if not applicable
+	 * @return The index of the active keyframe, or -1 if the tick is at or beyond the end of the final keyframe
+	 */
+	public static int findKeyframeIndex(double[] startTimes, double tick, int hint) {
+		int frameCount = startTimes.length - 1;
+
+		if (tick >= startTimes[frameCount])
+			return -1;
+
+		if (hint >= 0 && hint < frameCount && startTimes[hint] <= tick) {
+			if (tick < startTimes[hint + 1])
+				return hint;
+
+			if (hint + 1 < frameCount && tick < startTimes[hint + 2])
+				return hint + 1;
+		}
+
+		int low = 0;
+		int high = frameCount - 1;
+
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+
+			if (startTimes[mid + 1] > tick) {
+				high = mid;
+			}
+			else {
+				low = mid + 1;
+			}
 		}
 
-		return Math.max(xTime, Math.max(yTime, zTime));
+		return low;
 	}
 }
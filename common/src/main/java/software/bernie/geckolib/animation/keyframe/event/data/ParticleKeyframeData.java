@@ -1,16 +1,28 @@
 package software.bernie.geckolib.animation.keyframe.event.data;
 
+import net.minecraft.core.Holder;
+import net.minecraft.core.particles.ParticleType;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.animation.keyframe.Keyframe;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Particle {@link Keyframe} instruction holder
+ * <p>
+ * The particle data is parsed once on load into a {@link ParticleInstruction}, if the effect is a valid id
  */
 public class ParticleKeyframeData extends KeyFrameData {
 	private final String effect;
 	private final String locator;
 	private final String script;
+	@Nullable
+	private final ParticleInstruction particleInstruction;
+	@Nullable
+	private Optional<Holder.Reference<ParticleType<?>>> particleType = null;
 
 	public ParticleKeyframeData(double startTick, String effect, String locator, String script) {
 		super(startTick);
@@ -18,6 +30,7 @@ public class ParticleKeyframeData extends KeyFrameData {
 		this.script = script;
 		this.locator = locator;
 		this.effect = effect;
+		this.particleInstruction = ParticleInstruction.parse(effect, locator, script);
 	}
 
 	/**
@@ -41,8 +54,51 @@ public class ParticleKeyframeData extends KeyFrameData {
 		return this.script;
 	}
 
+	/**
+	 * Gets the parsed particle data for this keyframe, or null if the effect isn't a valid id
+	 */
+	@Nullable
+	public ParticleInstruction getParticleInstruction() {
+		return this.particleInstruction;
+	}
+
+	/**
+	 * Gets the {@link ParticleType} for this keyframe's {@link ParticleInstruction}, if it is present and registered
+	 * <p>
+	 * The registry lookup is cached for the lifetime of this keyframe data, which is discarded on resource reload
+	 */
+	public Optional<Holder.Reference<ParticleType<?>>> getParticleType() {
+		Optional<Holder.Reference<ParticleType<?>>> particleType = this.particleType;
+
+		if (particleType == null)
+			this.particleType = particleType = this.particleInstruction == null ? Optional.empty() : BuiltInRegistries.PARTICLE_TYPE.get(this.particleInstruction.effect());
+
+		return particleType;
+	}
+
 	@Override
 	public int hashCode() {
 		return Objects.hash(getStartTick(), this.effect, this.locator, this.script);
 	}
+
+	/**
+	 * Parsed particle data for a particle keyframe
+	 *
+	 * @param effect The id of the particle effect
+	 * @param locator The name of the locator or bone the particle should be positioned at, or an empty string if not provided
+	 * @param script The pre-effect script for the particle, or an empty string if not provided
+	 */
+	public record ParticleInstruction(ResourceLocation effect, String locator, String script) {
+		/**
+		 * Parse the given particle data into a ParticleInstruction
+		 *
+		 * @return The parsed instruction, or null if the effect isn't a valid id
+		 */
+		@Nullable
+		public static ParticleInstruction parse(String effect, String locator, String script) {
+			ResourceLocation effectId = effect.isEmpty() ? null : ResourceLocation.tryParse(effect);
+
+			return effectId == null ? null : new ParticleInstruction(effectId, locator, script);
+		}
+	}
 }
@@ -1,19 +1,36 @@
 package software.bernie.geckolib.animation.keyframe.event.data;
 
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.sounds.SoundEvent;
+import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.animation.keyframe.Keyframe;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Sound {@link Keyframe} instruction holder
+ * <p>
+ * The sound data is parsed once on load into a {@link SoundInstruction}, if it matches one of the below formats:
+ * <pre>{@code
+ * namespace:soundid
+ * namespace:soundid|volume|pitch
+ * }</pre>
  */
 public class SoundKeyframeData extends KeyFrameData {
 	private final String sound;
+	@Nullable
+	private final SoundInstruction soundInstruction;
+	@Nullable
+	private Optional<Holder.Reference<SoundEvent>> soundEvent = null;
 
 	public SoundKeyframeData(Double startTick, String sound) {
 		super(startTick);
 
 		this.sound = sound;
+		this.soundInstruction = SoundInstruction.parse(sound);
 	}
 
 	/**
@@ -23,8 +40,63 @@ public class SoundKeyframeData extends KeyFrameData {
 		return this.sound;
 	}
 
+	/**
+	 * Gets the parsed sound data for this keyframe, or null if the sound data isn't in a supported format
+	 */
+	@Nullable
+	public SoundInstruction getSoundInstruction() {
+		return this.soundInstruction;
+	}
+
+	/**
+	 * Gets the {@link SoundEvent} for this keyframe's {@link SoundInstruction}, if it is present and registered
+	 * <p>
+	 * The registry lookup is cached for the lifetime of this keyframe data, which is discarded on resource reload
+	 */
+	public Optional<Holder.Reference<SoundEvent>> getSoundEvent() {
+		Optional<Holder.Reference<SoundEvent>> soundEvent = this.soundEvent;
+
+		if (soundEvent == null)
+			this.soundEvent = soundEvent = this.soundInstruction == null ? Optional.empty() : BuiltInRegistries.SOUND_EVENT.get(this.soundInstruction.sound());
+
+		return soundEvent;
+	}
+
 	@Override
 	public int hashCode() {
 		return Objects.hash(getStartTick(), this.sound);
 	}
+
+	/**
+	 * Parsed sound data for a sound keyframe
+	 *
+	 * @param sound The id of the sound to play
+	 * @param volume The volume to play the sound at
+	 * @param pitch The pitch to play the sound at
+	 */
+	public record SoundInstruction(ResourceLocation sound, float volume, float pitch) {
+		/**
+		 * Parse the given sound data into a SoundInstruction
+		 *
+		 * @return The parsed instruction, or null if the data isn't in a supported format
+		 */
+		@Nullable
+		public static SoundInstruction parse(String soundData) {
+			String[] segments = soundData.split("\\|");
+			ResourceLocation sound = ResourceLocation.tryParse(segments[0]);
+
+			if (sound == null)
+				return null;
+
+			try {
+				float volume = segments.length > 1 ? Float.parseFloat(segments[1]) : 1;
+				float pitch = segments.length > 2 ? Float.parseFloat(segments[2]) : 1;
+
+				return new SoundInstruction(sound, volume, pitch);
+			}
+			catch (NumberFormatException ex) {
+				return null;
+			}
+		}
+	}
 }
@@ -1,7 +1,5 @@
 package software.bernie.geckolib.animation.keyframe.event.handler;
 
-import net.minecraft.core.registries.BuiltInRegistries;
-import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.monster.Enemy;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -28,19 +26,23 @@ import software.bernie.geckolib.util.ClientUtil;
 public class AutoPlayingSoundKeyframeHandler<A extends GeoAnimatable> implements AnimationController.KeyframeEventHandler<A, SoundKeyframeData> {
     @Override
     public void handle(KeyFrameEvent<A, SoundKeyframeData> event) {
-        String[] segments = event.keyframeData().getSound().split("\\|");
+        SoundKeyframeData.SoundInstruction instruction = event.keyframeData().getSoundInstruction();
 
-        BuiltInRegistries.SOUND_EVENT.get(ResourceLocation.read(segments[0]).getOrThrow()).ifPresent(sound -> {
+        if (instruction == null) {
+            GeckoLibConstants.LOGGER.warn("Unable to parse sound keyframe data: '{}'", event.keyframeData().getSound());
+
+            return;
+        }
+
+        event.keyframeData().getSoundEvent().ifPresent(sound -> {
             Vec3 position = event.animationState().getDataOrDefault(DataTickets.POSITION, null);
             Class<?> animatableClass = event.animationState().getDataOrDefault(DataTickets.ANIMATABLE_CLASS, Object.class);
 
             if (position != null) {
-                float volume = segments.length > 1 ? Float.parseFloat(segments[1]) : 1;
-                float pitch = segments.length > 2 ? Float.parseFloat(segments[2]) : 1;
                 SoundSource source = animatableClass.isAssignableFrom(BlockEntity.class) ? SoundSource.BLOCKS :
                                      animatableClass.isAssignableFrom(Enemy.class) ? SoundSource.HOSTILE : SoundSource.NEUTRAL;
 
-                ClientUtil.getLevel().playLocalSound(position.x, position.y, position.z, sound.value(), source, volume, pitch, false);
+                ClientUtil.getLevel().playLocalSound(position.x, position.y, position.z, sound.value(), source, instruction.volume(), instruction.pitch(), false);
             }
             else {
                 GeckoLibConstants.LOGGER.warn("Found sound keyframe handler, but AnimationState had no position data for animatable: {}", animatableClass.getName());
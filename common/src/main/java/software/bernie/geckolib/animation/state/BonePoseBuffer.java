@@ -0,0 +1,299 @@
+package software.bernie.geckolib.animation.state;
+
+import org.jetbrains.annotations.ApiStatus;
+import software.bernie.geckolib.animatable.manager.AnimatableManager;
+import software.bernie.geckolib.animatable.processing.AnimationProcessor;
+import software.bernie.geckolib.cache.object.GeoBone;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Compact per-instance storage of the animated transformations for each {@link GeoBone} in a model
+ * <p>
+ * The {@link AnimationProcessor} writes its computed pose here instead of directly onto the {@code GeoBone} objects (which are shared by all instances using the same model),
+ * and the pose is then {@link #applyToBones() applied} to the bones just prior to rendering.<br>
+ * This allows the pose to be computed independently of the render pass that ends up using it
+ * <p>
+ * Owned by the {@link AnimatableManager} for the instance
+ */
+public final class BonePoseBuffer {
+	private static final int STRIDE = 9;
+	private static final int ROT_X = 0;
+	private static final int ROT_Y = 1;
+	private static final int ROT_Z = 2;
+	private static final int POS_X = 3;
+	private static final int POS_Y = 4;
+	private static final int POS_Z = 5;
+	private static final int SCALE_X = 6;
+	private static final int SCALE_Y = 7;
+	private static final int SCALE_Z = 8;
+
+	private final BitSet rotationChanged = new BitSet();
+	private final BitSet positionChanged = new BitSet();
+	private final BitSet scaleChanged = new BitSet();
+	private final BitSet rotationAtRest = new BitSet();
+	private final BitSet positionAtRest = new BitSet();
+	private final BitSet scaleAtRest = new BitSet();
+	private final BitSet bonesAtRest = new BitSet();
+	private List<GeoBone> bones = List.of();
+	private float[] transforms = new float[0];
+	private boolean preEvaluated = false;
+
+	/**
+	 * Prepare this buffer for a new pose computation for the given bones
+	 * <p>
+	 * If the bones differ from the ones this buffer was last used for, the buffer is re-laid out and initialised to the bones' initial poses,
+	 * and all bones are marked as no longer at rest
+	 *
+	 * @param bones The bones to prepare for, in the order they are indexed by the {@link AnimationProcessor}
+	 */
+	public void prepare(List<GeoBone> bones) {
+		this.rotationChanged.clear();
+		this.positionChanged.clear();
+		this.scaleChanged.clear();
+
+		if (isLaidOutFor(bones))
+			return;
+
+		this.bones = bones;
+		this.rotationAtRest.clear();
+		this.positionAtRest.clear();
+		this.scaleAtRest.clear();
+
+		if (this.transforms.length != bones.size() * STRIDE)
+			this.transforms = new float[bones.size() * STRIDE];
+
+		for (int i = 0; i < bones.size(); i++) {
+			BoneSnapshot initialSnapshot = bones.get(i).getInitialSnapshot();
+
+			setRotation(i, initialSnapshot.getRotX(), initialSnapshot.getRotY(), initialSnapshot.getRotZ());
+			setPosition(i, initialSnapshot.getOffsetX(), initialSnapshot.getOffsetY(), initialSnapshot.getOffsetZ());
+			setScale(i, initialSnapshot.getScaleX(), initialSnapshot.getScaleY(), initialSnapshot.getScaleZ());
+		}
+
+		this.rotationChanged.clear();
+		this.positionChanged.clear();
+		this.scaleChanged.clear();
+	}
+
+	/**
+	 * Whether this buffer is currently laid out for the given bones, and so holds a previously computed pose for them
+	 */
+	public boolean isLaidOutFor(List<GeoBone> bones) {
+		return this.bones == bones && this.transforms.length == bones.size() * STRIDE;
+	}
+
+	/**
+	 * Keep the previously computed transformations for the given bone index for this pose computation, marking them as set without modifying them
+	 * <p>
+	 * Used for controllers that are skipped this frame due to an {@link software.bernie.geckolib.animatable.processing.AnimationLodPolicy AnimationLodPolicy}
+	 */
+	public void retain(int index, boolean rotation, boolean position, boolean scale) {
+		if (rotation)
+			this.rotationChanged.set(index);
+
+		if (position)
+			this.positionChanged.set(index);
+
+		if (scale)
+			this.scaleChanged.set(index);
+	}
+
+	/**
+	 * Mark this buffer as holding a pose computed ahead of its render pass, so that the render pass doesn't need to compute it again
+	 *
+	 * @see software.bernie.geckolib.animatable.processing.AnimationEvaluator AnimationEvaluator
+	 */
+	@ApiStatus.Internal
+	public void markPreEvaluated() {
+		this.preEvaluated = true;
+	}
+
+	/**
+	 * Whether this buffer holds a pose computed ahead of its render pass, clearing the marker in the process
+	 */
+	@ApiStatus.Internal
+	public boolean consumePreEvaluated() {
+		boolean preEvaluated = this.preEvaluated;
+		this.preEvaluated = false;
+
+		return preEvaluated;
+	}
+
+	/**
+	 * Wake any bones whose transformations were set since the last call to {@link #prepare},
+	 * and collect the set of bones that are fully at rest and can be skipped by the bone reset pass
+	 *
+	 * @return The bones that are at rest for all of rotation, position, and scale. Only valid until the next call to this method
+	 */
+	public BitSet collectBonesAtRest() {
+		this.rotationAtRest.andNot(this.rotationChanged);
+		this.positionAtRest.andNot(this.positionChanged);
+		this.scaleAtRest.andNot(this.scaleChanged);
+		this.bonesAtRest.clear();
+		this.bonesAtRest.or(this.rotationAtRest);
+		this.bonesAtRest.and(this.positionAtRest);
+		this.bonesAtRest.and(this.scaleAtRest);
+
+		return this.bonesAtRest;
+	}
+
+	/**
+	 * Mark the rotation for the given bone index as having fully reset to its initial value,
+	 * so that it doesn't need to be recomputed until an animation next touches it
+	 */
+	public void markRotationAtRest(int index) {
+		this.rotationAtRest.set(index);
+	}
+
+	/**
+	 * Mark the position for the given bone index as having fully reset to its initial value,
+	 * so that it doesn't need to be recomputed until an animation next touches it
+	 */
+	public void markPositionAtRest(int index) {
+		this.positionAtRest.set(index);
+	}
+
+	/**
+	 * Mark the scale for the given bone index as having fully reset to its initial value,
+	 * so that it doesn't need to be recomputed until an animation next touches it
+	 */
+	public void markScaleAtRest(int index) {
+		this.scaleAtRest.set(index);
+	}
+
+	/**
+	 * Whether the rotation for the given bone index is at rest, holding its initial value with no animation or reset in progress
+	 */
+	public boolean isRotationAtRest(int index) {
+		return this.rotationAtRest.get(index);
+	}
+
+	/**
+	 * Whether the position for the given bone index is at rest, holding its initial value with no animation or reset in progress
+	 */
+	public boolean isPositionAtRest(int index) {
+		return this.positionAtRest.get(index);
+	}
+
+	/**
+	 * Whether the scale for the given bone index is at rest, holding its initial value with no animation or reset in progress
+	 */
+	public boolean isScaleAtRest(int index) {
+		return this.scaleAtRest.get(index);
+	}
+
+	/**
+	 * Get the number of bones this buffer is currently laid out for
+	 */
+	public int size() {
+		return this.bones.size();
+	}
+
+	/**
+	 * Get the bone at the given index in this buffer
+	 */
+	public GeoBone getBone(int index) {
+		return this.bones.get(index);
+	}
+
+	/**
+	 * Copy the pose in this buffer onto the {@link GeoBone GeoBones} it was computed for, ready for rendering
+	 */
+	public void applyToBones() {
+		for (int i = 0; i < this.bones.size(); i++) {
+			GeoBone bone = this.bones.get(i);
+			int offset = i * STRIDE;
+
+			bone.updateRotation(this.transforms[offset + ROT_X], this.transforms[offset + ROT_Y], this.transforms[offset + ROT_Z]);
+			bone.updatePosition(this.transforms[offset + POS_X], this.transforms[offset + POS_Y], this.transforms[offset + POS_Z]);
+			bone.updateScale(this.transforms[offset + SCALE_X], this.transforms[offset + SCALE_Y], this.transforms[offset + SCALE_Z]);
+			bone.resetStateChanges();
+		}
+	}
+
+	public void setRotation(int index, float rotX, float rotY, float rotZ) {
+		int offset = index * STRIDE;
+
+		this.transforms[offset + ROT_X] = rotX;
+		this.transforms[offset + ROT_Y] = rotY;
+		this.transforms[offset + ROT_Z] = rotZ;
+		this.rotationChanged.set(index);
+	}
+
+	public void setPosition(int index, float posX, float posY, float posZ) {
+		int offset = index * STRIDE;
+
+		this.transforms[offset + POS_X] = posX;
+		this.transforms[offset + POS_Y] = posY;
+		this.transforms[offset + POS_Z] = posZ;
+		this.positionChanged.set(index);
+	}
+
+	public void setScale(int index, float scaleX, float scaleY, float scaleZ) {
+		int offset = index * STRIDE;
+
+		this.transforms[offset + SCALE_X] = scaleX;
+		this.transforms[offset + SCALE_Y] = scaleY;
+		this.transforms[offset + SCALE_Z] = scaleZ;
+		this.scaleChanged.set(index);
+	}
+
+	public float getRotX(int index) {
+		return this.transforms[index * STRIDE + ROT_X];
+	}
+
+	public float getRotY(int index) {
+		return this.transforms[index * STRIDE + ROT_Y];
+	}
+
+	public float getRotZ(int index) {
+		return this.transforms[index * STRIDE + ROT_Z];
+	}
+
+	public float getPosX(int index) {
+		return this.transforms[index * STRIDE + POS_X];
+	}
+
+	public float getPosY(int index) {
+		return this.transforms[index * STRIDE + POS_Y];
+	}
+
+	public float getPosZ(int index) {
+		return this.transforms[index * STRIDE + POS_Z];
+	}
+
+	public float getScaleX(int index) {
+		return this.transforms[index * STRIDE + SCALE_X];
+	}
+
+	public float getScaleY(int index) {
+		return this.transforms[index * STRIDE + SCALE_Y];
+	}
+
+	public float getScaleZ(int index) {
+		return this.transforms[index * STRIDE + SCALE_Z];
+	}
+
+	/**
+	 * Whether the rotation for the given bone index has been set since the last call to {@link #prepare}
+	 */
+	public boolean hasRotationChanged(int index) {
+		return this.rotationChanged.get(index);
+	}
+
+	/**
+	 * Whether the position for the given bone index has been set since the last call to {@link #prepare}
+	 */
+	public boolean hasPositionChanged(int index) {
+		return this.positionChanged.get(index);
+	}
+
+	/**
+	 * Whether the scale for the given bone index has been set since the last call to {@link #prepare}
+	 */
+	public boolean hasScaleChanged(int index) {
+		return this.scaleChanged.get(index);
+	}
+}
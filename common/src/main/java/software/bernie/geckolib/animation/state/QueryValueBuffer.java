@@ -0,0 +1,53 @@
+package software.bernie.geckolib.animation.state;
+
+import software.bernie.geckolib.loading.math.MolangQueries;
+import software.bernie.geckolib.loading.math.value.Variable;
+import software.bernie.geckolib.renderer.base.GeoRenderState;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Compact storage of the pre-computed {@link MolangQueries#setActorVariable actor variable} values for a render pass
+ * <p>
+ * Values are indexed by the {@link MolangQueries#getVariableSlot slot} assigned to each {@link Variable} when it was registered,
+ * with the variables computed for the current render pass tracked separately so that the storage can be reused between passes
+ * <p>
+ * Stored on the {@link GeoRenderState} for the render pass, and reused by later passes using the same render state
+ */
+public final class QueryValueBuffer {
+	private final BitSet present = new BitSet();
+	private double[] values = new double[0];
+
+	/**
+	 * Clear all stored values, ready for a new render pass
+	 */
+	public void clear() {
+		this.present.clear();
+	}
+
+	/**
+	 * Whether a value has been stored for the given variable slot since the last {@link #clear()}
+	 */
+	public boolean has(int slot) {
+		return slot >= 0 && this.present.get(slot);
+	}
+
+	/**
+	 * Get the stored value for the given variable slot, or 0 if no value has been stored for it
+	 */
+	public double get(int slot) {
+		return has(slot) ? this.values[slot] : 0;
+	}
+
+	/**
+	 * Store the value for the given variable slot
+	 */
+	public void set(int slot, double value) {
+		if (slot >= this.values.length)
+			this.values = Arrays.copyOf(this.values, Math.max(slot + 1, MolangQueries.getVariableSlotCount()));
+
+		this.values[slot] = value;
+		this.present.set(slot);
+	}
+}
@@ -0,0 +1,378 @@
+package software.bernie.geckolib.animation.state;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import org.jetbrains.annotations.Nullable;
+import software.bernie.geckolib.animatable.processing.AnimationController;
+import software.bernie.geckolib.animatable.processing.AnimationState;
+import software.bernie.geckolib.animation.Animation;
+import software.bernie.geckolib.animation.keyframe.AnimationChannelBuffer;
+import software.bernie.geckolib.animation.keyframe.BoneAnimation;
+import software.bernie.geckolib.animation.keyframe.Keyframe;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.loading.math.MolangQueries;
+import software.bernie.geckolib.loading.math.compile.MolangOptimizer;
+import software.bernie.geckolib.loading.math.value.Variable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of computed animation points, allowing instances playing the same {@link Animation} at the same time to skip re-computing them
+ * <p>
+ * Only animations whose {@link Animation#usedVariables() variables} are all {@link MolangQueries#isFrameGlobalVariable frame-global},
+ * and whose expressions are all {@link MolangOptimizer#isSideEffectFree free of side effects} (such as variable assignments or random values), are cached,
+ * keyed by the animation, the (optionally quantized) animation tick, and the current values of those variables.<br>
+ * The cached points are independent of the instance playing them, with easing and transitions still applied per-instance by the {@link AnimationController}
+ * <p>
+ * Disabled by default. When enabled, the quantization step controls the trade-off between exactness and re-use:
+ * <ul>
+ *     <li>0 - Only instances at exactly the same animation tick share points</li>
+ *     <li>&gt;0 - The animation tick is snapped to the nearest multiple of the given number of ticks before evaluating</li>
+ * </ul>
+ * <p>
+ * Entries are kept in two generations, with the older generation discarded each time the newer one fills up.
+ * Entries that are hit in the older generation are carried over, so points in use across several frames survive while stale ticks age out
+ */
+public final class SharedPoseCache {
+	private static final int MAX_ENTRIES = 4096;
+	private static final ThreadLocal<Key> PROBE_KEY = ThreadLocal.withInitial(Key::new);
+	private static final Variable[] NOT_CACHEABLE = new Variable[0];
+	private static volatile Reference2ObjectOpenHashMap<Animation, Variable[]> cacheableAnimations = new Reference2ObjectOpenHashMap<>();
+	private static volatile Map<Key, Entry> cache = new ConcurrentHashMap<>();
+	private static volatile Map<Key, Entry> previousCache = Map.of();
+
+	private static boolean enabled = false;
+	private static double quantization = 0;
+
+	private SharedPoseCache() {}
+
+	/**
+	 * Enable shared pose caching, snapping animation ticks to the given step size
+	 *
+	 * @param quantizationTicks The step size (in ticks) to snap animation ticks to, or 0 for exact matches only
+	 */
+	public static void enable(double quantizationTicks) {
+		quantization = Math.max(0, quantizationTicks);
+		enabled = true;
+	}
+
+	/**
+	 * Disable shared pose caching, discarding any currently cached points
+	 */
+	public static void disable() {
+		enabled = false;
+
+		clear();
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Discard all cached points
+	 * <p>
+	 * Called automatically on resource reload
+	 */
+	public static synchronized void clear() {
+		cache = new ConcurrentHashMap<>();
+		previousCache = Map.of();
+		cacheableAnimations = new Reference2ObjectOpenHashMap<>();
+	}
+
+	/**
+	 * Snap the given animation tick to the configured quantization step
+	 */
+	public static double quantize(double tick) {
+		return quantization <= 0 ? tick : Math.round(tick / quantization) * quantization;
+	}
+
+	/**
+	 * Get the cache key for the given {@link Animation} at the given animation tick, or null if the animation isn't cacheable
+	 * <p>
+	 * The tick is {@link #quantize quantized} before being used in the key, and can be retrieved via {@link Key#getTick()}
+	 * <p>
+	 * The returned key is a per-thread probe that is reused by the next call on the same thread, so it should only be used for an immediately following
+	 * {@link #get} or {@link #put}. {@code put} stores its own copy of the key
+	 *
+	 * @param animation The animation being played
+	 * @param tick The animation tick
+	 * @param sampled Whether the animation's points are computed from {@link software.bernie.geckolib.animation.keyframe.KeyframeSamples pre-sampled values}
+	 * @param animationState The AnimationState for the current render pass, for retrieving variable values
+	 */
+	@Nullable
+	public static Key probeKey(Animation animation, double tick, boolean sampled, AnimationState<?> animationState) {
+		Variable[] variables = getCacheableVariables(animation);
+
+		if (variables == NOT_CACHEABLE)
+			return null;
+
+		return PROBE_KEY.get().set(animation, quantize(tick), sampled, variables, animationState);
+	}
+
+	/**
+	 * Whether the given {@link Animation} has any chance of being cached
+	 */
+	public static boolean isCacheable(Animation animation) {
+		return getCacheableVariables(animation) != NOT_CACHEABLE;
+	}
+
+	/**
+	 * Get the cached points for the given key, if present
+	 * <p>
+	 * Entries found in the previous generation are carried over to the current one, so that points still in use aren't evicted
+	 */
+	@Nullable
+	public static Entry get(Key key) {
+		Entry entry = cache.get(key);
+
+		if (entry == null) {
+			entry = previousCache.get(key);
+
+			if (entry != null)
+				put(key, entry);
+		}
+
+		return entry;
+	}
+
+	/**
+	 * Store the computed points for the given key
+	 * <p>
+	 * Once the current generation of entries is full it becomes the previous generation, discarding the one before it,
+	 * so that only entries that haven't been used for a full generation are evicted
+	 */
+	public static void put(Key key, Entry entry) {
+		Map<Key, Entry> currentCache = cache;
+
+		if (currentCache.size() >= MAX_ENTRIES / 2) {
+			synchronized (SharedPoseCache.class) {
+				if (cache == currentCache) {
+					previousCache = currentCache;
+					cache = new ConcurrentHashMap<>();
+				}
+			}
+		}
+
+		cache.put(key.copy(), entry);
+	}
+
+	/**
+	 * Get the variables that make up the cache key for the given {@link Animation}, or {@link #NOT_CACHEABLE} if it can't be cached
+	 * <p>
+	 * Looked up by identity from a copy-on-write map, as it is checked by every controller every frame and only ever grows by one entry per loaded animation
+	 */
+	private static Variable[] getCacheableVariables(Animation animation) {
+		Variable[] variables = cacheableAnimations.get(animation);
+
+		if (variables == null) {
+			synchronized (SharedPoseCache.class) {
+				variables = cacheableAnimations.get(animation);
+
+				if (variables == null) {
+					Reference2ObjectOpenHashMap<Animation, Variable[]> updatedAnimations = new Reference2ObjectOpenHashMap<>(cacheableAnimations);
+
+					updatedAnimations.put(animation, variables = findCacheableVariables(animation));
+					cacheableAnimations = updatedAnimations;
+				}
+			}
+		}
+
+		return variables;
+	}
+
+	private static Variable[] findCacheableVariables(Animation animation) {
+		for (Variable variable : animation.usedVariables()) {
+			if (!MolangQueries.isFrameGlobalVariable(variable))
+				return NOT_CACHEABLE;
+		}
+
+		for (BoneAnimation boneAnimation : animation.boneAnimations()) {
+			if (!boneAnimation.isSideEffectFree())
+				return NOT_CACHEABLE;
+		}
+
+		return animation.usedVariables().toArray(new Variable[0]);
+	}
+
+	/**
+	 * Cache key for a set of computed animation points
+	 */
+	public static final class Key {
+		private Animation animation;
+		private double tick;
+		private boolean sampled;
+		private double[] variableValues;
+		private int variableCount;
+		private int hash;
+
+		private Key() {
+			this.variableValues = new double[0];
+		}
+
+		private Key set(Animation animation, double tick, boolean sampled, Variable[] variables, AnimationState<?> animationState) {
+			if (this.variableValues.length < variables.length)
+				this.variableValues = new double[variables.length];
+
+			for (int i = 0; i < variables.length; i++) {
+				this.variableValues[i] = variables[i].get(animationState);
+			}
+
+			this.animation = animation;
+			this.tick = tick;
+			this.sampled = sampled;
+			this.variableCount = variables.length;
+			this.hash = computeHash();
+
+			return this;
+		}
+
+		private Key copy() {
+			Key key = new Key();
+
+			key.animation = this.animation;
+			key.tick = this.tick;
+			key.sampled = this.sampled;
+			key.variableValues = Arrays.copyOf(this.variableValues, this.variableCount);
+			key.variableCount = this.variableCount;
+			key.hash = this.hash;
+
+			return key;
+		}
+
+		/**
+		 * Get the quantized animation tick this key is for
+		 */
+		public double getTick() {
+			return this.tick;
+		}
+
+		private int computeHash() {
+			int hash = 31 * (31 * System.identityHashCode(this.animation) + Double.hashCode(this.tick)) + Boolean.hashCode(this.sampled);
+
+			for (int i = 0; i < this.variableCount; i++) {
+				hash = 31 * hash + Double.hashCode(this.variableValues[i]);
+			}
+
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+
+			return obj instanceof Key other && this.animation == other.animation && this.tick == other.tick && this.sampled == other.sampled &&
+				   Arrays.equals(this.variableValues, 0, this.variableCount, other.variableValues, 0, other.variableCount);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
+
+	/**
+	 * The computed animation points for each {@link BoneAnimation} in an {@link Animation}, in the same order as {@link Animation#boneAnimations()}
+	 */
+	public static final class Entry {
+		private static final int AXES_PER_BONE = AnimationChannelBuffer.CHANNEL_COUNT * 3;
+
+		private final Keyframe<?>[] keyframes;
+		private final double[] points;
+		private final boolean[] interleaved;
+
+		private Entry(int boneCount) {
+			this.keyframes = new Keyframe<?>[boneCount * AXES_PER_BONE];
+			this.points = new double[boneCount * AXES_PER_BONE * 4];
+			this.interleaved = new boolean[boneCount * AnimationChannelBuffer.CHANNEL_COUNT];
+		}
+
+		/**
+		 * Capture the points written by a controller for the given animation
+		 *
+		 * @param animation The animation the points were computed for
+		 * @param channels The channel buffer the points were written to
+		 * @param model The model the points were written for
+		 * @return The captured entry, or null if any of the animation's bones are missing from the model
+		 */
+		@Nullable
+		public static Entry capture(Animation animation, AnimationChannelBuffer channels, BakedGeoModel model) {
+			int[] boneIndices = model.getBoneIndices(animation);
+			Entry entry = new Entry(boneIndices.length);
+
+			for (int i = 0; i < boneIndices.length; i++) {
+				int slot = boneIndices[i];
+
+				if (slot == -1)
+					return null;
+
+				for (int channel = 0; channel < AnimationChannelBuffer.CHANNEL_COUNT; channel++) {
+					if (!channels.hasChannel(slot, channel))
+						continue;
+
+					entry.interleaved[i * AnimationChannelBuffer.CHANNEL_COUNT + channel] = channels.isInterleaved(slot, channel);
+
+					for (int axis = 0; axis < 3; axis++) {
+						int index = i * AXES_PER_BONE + channel * 3 + axis;
+
+						entry.keyframes[index] = channels.getKeyframe(slot, channel, axis);
+						entry.points[index * 4] = channels.getTick(slot, channel, axis);
+						entry.points[index * 4 + 1] = channels.getTransitionLength(slot, channel, axis);
+						entry.points[index * 4 + 2] = channels.getStartValue(slot, channel, axis);
+						entry.points[index * 4 + 3] = channels.getEndValue(slot, channel, axis);
+					}
+				}
+			}
+
+			return entry;
+		}
+
+		/**
+		 * Write the points in this entry into a controller's channel buffer
+		 *
+		 * @param animation The animation this entry was captured for
+		 * @param channels The channel buffer to write to
+		 * @param model The model to write the points for
+		 */
+		public void copyTo(Animation animation, AnimationChannelBuffer channels, BakedGeoModel model) {
+			BoneAnimation[] boneAnimations = animation.boneAnimations();
+			int[] boneIndices = model.getBoneIndices(animation);
+
+			for (int i = 0; i < boneAnimations.length; i++) {
+				if (boneIndices[i] == -1)
+					continue;
+
+				int slot = channels.getSlot(model.bones().get(boneIndices[i]));
+
+				for (int channel = 0; channel < AnimationChannelBuffer.CHANNEL_COUNT; channel++) {
+					int channelIndex = i * AXES_PER_BONE + channel * 3;
+
+					if (!hasKeyframes(boneAnimations[i], channel))
+						continue;
+
+					for (int axis = 0; axis < 3; axis++) {
+						int index = channelIndex + axis;
+
+						channels.setPoint(slot, channel, axis, this.keyframes[index], this.points[index * 4], this.points[index * 4 + 1], this.points[index * 4 + 2], this.points[index * 4 + 3]);
+					}
+
+					if (this.interleaved[i * AnimationChannelBuffer.CHANNEL_COUNT + channel])
+						channels.markInterleaved(slot, channel);
+				}
+			}
+		}
+
+		private static boolean hasKeyframes(BoneAnimation boneAnimation, int channel) {
+			List<?> keyframes = switch (channel) {
+				case AnimationChannelBuffer.ROTATION -> boneAnimation.rotationKeyFrames().xKeyframes();
+				case AnimationChannelBuffer.POSITION -> boneAnimation.positionKeyFrames().xKeyframes();
+				default -> boneAnimation.scaleKeyFrames().xKeyframes();
+			};
+
+			return !keyframes.isEmpty();
+		}
+	}
+}
@@ -13,6 +13,7 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import software.bernie.geckolib.GeckoLibConstants;
 import software.bernie.geckolib.animation.Animation;
+import software.bernie.geckolib.animation.state.SharedPoseCache;
 import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.loading.json.ModelFormatVersion;
 import software.bernie.geckolib.loading.json.raw.Model;
@@ -53,6 +54,7 @@ public final class GeckoLibResources {
 
 	private static Map<ResourceLocation, BakedAnimations> ANIMATIONS = Collections.emptyMap();
 	private static Map<ResourceLocation, BakedGeoModel> MODELS = Collections.emptyMap();
+	private static volatile int reloadGeneration = 0;
 
 	/**
 	 * Get GeckoLib's cache of all the loaded animations from the {@link #ANIMATIONS_PATH}
@@ -68,6 +70,15 @@ public final class GeckoLibResources {
 		return MODELS;
 	}
 
+	/**
+	 * Get the number of times GeckoLib's resources have been reloaded
+	 * <p>
+	 * Caches derived from the loaded models or animations can store this value and compare it later to detect when they need to be discarded
+	 */
+	public static int getReloadGeneration() {
+		return reloadGeneration;
+	}
+
 	@ApiStatus.Internal
 	public static CompletableFuture<Void> reload(PreparationBarrier stage, ResourceManager resourceManager, Executor backgroundExecutor, Executor gameExecutor) {
 		CompletableFuture<Map<ResourceLocation, BakedAnimations>> animations = loadAnimations(backgroundExecutor, resourceManager);
@@ -78,6 +89,8 @@ public final class GeckoLibResources {
 					GeckoLibResources.ANIMATIONS = animations.join();
 					GeckoLibResources.MODELS = models.join();
 					BakedAnimationsAdapter.COMPRESSION_CACHE = null;
+					SharedPoseCache.clear();
+					reloadGeneration++;
 				}, gameExecutor));
 	}
 
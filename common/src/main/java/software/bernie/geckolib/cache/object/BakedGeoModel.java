@@ -4,8 +4,13 @@ import com.google.common.base.Suppliers;
 import it.unimi.dsi.fastutil.objects.Object2ReferenceMap;
 import it.unimi.dsi.fastutil.objects.Object2ReferenceOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import org.jetbrains.annotations.Nullable;
+import software.bernie.geckolib.animation.Animation;
+import software.bernie.geckolib.animation.keyframe.BoneAnimation;
 import software.bernie.geckolib.loading.json.raw.ModelProperties;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -13,10 +18,29 @@ import java.util.function.Supplier;
 
 /**
  * Baked model object for Geckolib models
+ * <p>
+ * Each {@link GeoBone} in the model is assigned a dense {@link GeoBone#getIndex() index} on construction, in depth-first order,
+ * allowing per-bone data to be stored in arrays instead of being looked up by name
+ *
+ * @param topLevelBones The bones at the root of the model's hierarchy
+ * @param properties The loaded properties for the model
+ * @param boneMap The bones in the model, mapped by name
  */
 public record BakedGeoModel(List<GeoBone> topLevelBones, ModelProperties properties, Supplier<Map<String, GeoBone>> boneMap) {
+	public BakedGeoModel {
+		if (!(boneMap instanceof BoneLookup))
+			boneMap = new BoneLookup(indexBones(topLevelBones), boneMap);
+	}
+
 	public BakedGeoModel(List<GeoBone> topLevelBones, ModelProperties properties) {
-		this(topLevelBones, properties, createBoneMap(topLevelBones));
+		this(topLevelBones, properties, null);
+	}
+
+	/**
+	 * Get all bones in the model, ordered by their {@link GeoBone#getIndex() index}
+	 */
+	public List<GeoBone> bones() {
+		return ((BoneLookup)this.boneMap).bones;
 	}
 
 	/**
@@ -29,19 +53,50 @@ public record BakedGeoModel(List<GeoBone> topLevelBones, ModelProperties propert
 		return Optional.ofNullable(this.boneMap.get().get(name));
 	}
 
+	/**
+	 * Get the bone indices for each {@link BoneAnimation} in the given {@link Animation}, in the same order as {@link Animation#boneAnimations()}
+	 * <p>
+	 * Bones that don't exist in this model have an index of -1
+	 * <p>
+	 * The resolved indices are cached for the lifetime of this model, which is discarded on resource reload
+	 */
+	public int[] getBoneIndices(Animation animation) {
+		return ((BoneLookup)this.boneMap).getBoneIndices(animation);
+	}
+
+	/**
+	 * Assign an index to every bone in the model, in depth-first order
+	 *
+	 * @return The list of all bones in the model, ordered by index
+	 */
+	private static List<GeoBone> indexBones(List<GeoBone> topLevelBones) {
+		List<GeoBone> bones = new ObjectArrayList<>();
+
+		for (GeoBone bone : topLevelBones) {
+			indexBone(bone, bones);
+		}
+
+		return Collections.unmodifiableList(bones);
+	}
+
+	private static void indexBone(GeoBone bone, List<GeoBone> bones) {
+		bone.setIndex(bones.size());
+		bones.add(bone);
+
+		for (GeoBone child : bone.getChildBones()) {
+			indexBone(child, bones);
+		}
+	}
+
 	/**
 	 * Create the bone map for this model, memoizing it as most models won't need it at all
 	 */
-	private static Supplier<Map<String, GeoBone>> createBoneMap(List<GeoBone> topLevelBones) {
+	private static Supplier<Map<String, GeoBone>> createBoneMap(List<GeoBone> bones) {
 		return Suppliers.memoize(() -> {
-			Object2ReferenceMap<String, GeoBone> boneMap = new Object2ReferenceOpenHashMap<>();
+			Object2ReferenceMap<String, GeoBone> boneMap = new Object2ReferenceOpenHashMap<>(bones.size());
 
-			for (GeoBone bone : topLevelBones) {
+			for (GeoBone bone : bones) {
 				boneMap.put(bone.getName(), bone);
-
-				for (GeoBone child : collectChildBones(bone)) {
-					boneMap.put(child.getName(), child);
-				}
 			}
 
 			return boneMap;
@@ -49,16 +104,41 @@ public record BakedGeoModel(List<GeoBone> topLevelBones, ModelProperties propert
 	}
 
 	/**
-	 * Recursively collect all child bones of a bone
+	 * Bone lookups for a model, held as its {@link #boneMap() bone map} so that they stay out of the record's equality
+	 * <p>
+	 * Wraps the bone map passed to the model, or creates one from the indexed bones if none was given
 	 */
-	private static List<GeoBone> collectChildBones(GeoBone bone) {
-		List<GeoBone> bones = new ObjectArrayList<>();
+	private static final class BoneLookup implements Supplier<Map<String, GeoBone>> {
+		private final List<GeoBone> bones;
+		private final Supplier<Map<String, GeoBone>> boneMap;
+		private final Map<Animation, int[]> animationBoneIndices = new Reference2ObjectOpenHashMap<>();
 
-		for (GeoBone child : bone.getChildBones()) {
-			bones.add(child);
-			bones.addAll(collectChildBones(child));
+		private BoneLookup(List<GeoBone> bones, @Nullable Supplier<Map<String, GeoBone>> boneMap) {
+			this.bones = bones;
+			this.boneMap = boneMap == null ? createBoneMap(bones) : boneMap;
 		}
 
-		return bones;
+		@Override
+		public Map<String, GeoBone> get() {
+			return this.boneMap.get();
+		}
+
+		private int[] getBoneIndices(Animation animation) {
+			synchronized (this.animationBoneIndices) {
+				return this.animationBoneIndices.computeIfAbsent(animation, this::resolveBoneIndices);
+			}
+		}
+
+		private int[] resolveBoneIndices(Animation animation) {
+			BoneAnimation[] boneAnimations = animation.boneAnimations();
+			int[] indices = new int[boneAnimations.length];
+
+			for (int i = 0; i < boneAnimations.length; i++) {
+				GeoBone bone = this.boneMap.get().get(boneAnimations[i].boneName());
+				indices[i] = bone == null ? -1 : bone.getIndex();
+			}
+
+			return indices;
+		}
 	}
 }
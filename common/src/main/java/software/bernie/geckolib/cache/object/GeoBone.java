@@ -1,10 +1,12 @@
 package software.bernie.geckolib.cache.object;
 
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix3f;
 import org.joml.Matrix4f;
 import org.joml.Vector3d;
+import org.joml.Vector3f;
 import org.joml.Vector4f;
 import software.bernie.geckolib.animation.state.BoneSnapshot;
 
@@ -52,12 +54,11 @@ public class GeoBone {
 	private boolean positionChanged = false;
 	private boolean rotationChanged = false;
 	private boolean scaleChanged = false;
-	private final Matrix4f modelSpaceMatrix = new Matrix4f();
-	private final Matrix4f localSpaceMatrix = new Matrix4f();
-	private final Matrix4f worldSpaceMatrix = new Matrix4f();
-	private Matrix3f worldSpaceNormal = new Matrix3f();
-	
+	@Nullable
+	private TrackedMatrices trackedMatrices = null;
+
 	private boolean trackingMatrices;
+	private int index = -1;
 
 	public GeoBone(@Nullable GeoBone parent, String name, Boolean mirror, @Nullable Double inflate, @Nullable Boolean dontRender, @Nullable Boolean reset) {
 		this.parent = parent;
@@ -68,11 +69,6 @@ public class GeoBone {
 		this.reset = reset;
 		this.trackingMatrices = false;
 		this.hidden = this.dontRender == Boolean.TRUE;
-
-		this.worldSpaceNormal.identity();
-		this.worldSpaceMatrix.identity();
-		this.localSpaceMatrix.identity();
-		this.modelSpaceMatrix.identity();
 	}
 
 	public String getName() {
@@ -83,6 +79,18 @@ public class GeoBone {
 		return this.parent;
 	}
 
+	/**
+	 * Get the index of this bone in its {@link BakedGeoModel#bones() model}, or -1 if it hasn't been assigned to a model
+	 */
+	public int getIndex() {
+		return this.index;
+	}
+
+	@ApiStatus.Internal
+	public void setIndex(int index) {
+		this.index = index;
+	}
+
 	public float getRotX() {
 		return this.rotX;
 	}
@@ -306,73 +314,124 @@ public class GeoBone {
 		return trackingMatrices;
 	}
 
+	/**
+	 * Set whether this bone should have its transformation matrices tracked by the renderer
+	 * <p>
+	 * Storage for the matrices is only allocated once a bone starts tracking them
+	 */
 	public void setTrackingMatrices(boolean trackingMatrices) {
 		this.trackingMatrices = trackingMatrices;
+
+		if (trackingMatrices)
+			getTrackedMatrices();
+	}
+
+	private TrackedMatrices getTrackedMatrices() {
+		if (this.trackedMatrices == null)
+			this.trackedMatrices = new TrackedMatrices();
+
+		return this.trackedMatrices;
+	}
+
+	/**
+	 * Capture the render pose of this bone for its tracked matrices, without computing any of them
+	 * <p>
+	 * The model-space and local-space matrices are computed lazily from the captured pose the first time they are requested
+	 *
+	 * @param poseState The pose matrix of the bone at its pivot point
+	 * @param modelRenderTranslations The pose matrix at the root of the model
+	 * @param localRenderTranslations The pose matrix at the origin of the bone's owner
+	 */
+	public void trackPose(Matrix4f poseState, Matrix4f modelRenderTranslations, Matrix4f localRenderTranslations) {
+		getTrackedMatrices().capture(poseState, modelRenderTranslations, localRenderTranslations, 0, 0, 0);
+	}
+
+	/**
+	 * Capture the render pose of this bone for its tracked matrices, without computing any of them
+	 * <p>
+	 * The model-space, local-space, and world-space matrices are computed lazily from the captured pose the first time they are requested
+	 *
+	 * @param poseState The pose matrix of the bone at its pivot point
+	 * @param modelRenderTranslations The pose matrix at the root of the model
+	 * @param localRenderTranslations The pose matrix at the origin of the bone's owner
+	 * @param localOffsetX The x-axis offset to add to the local-space position
+	 * @param localOffsetY The y-axis offset to add to the local-space position
+	 * @param localOffsetZ The z-axis offset to add to the local-space position
+	 * @param worldOffsetX The x-axis offset to add to the (offset) local-space position to get the world-space position
+	 * @param worldOffsetY The y-axis offset to add to the (offset) local-space position to get the world-space position
+	 * @param worldOffsetZ The z-axis offset to add to the (offset) local-space position to get the world-space position
+	 */
+	public void trackPose(Matrix4f poseState, Matrix4f modelRenderTranslations, Matrix4f localRenderTranslations, float localOffsetX, float localOffsetY, float localOffsetZ,
+						  float worldOffsetX, float worldOffsetY, float worldOffsetZ) {
+		TrackedMatrices matrices = getTrackedMatrices();
+
+		matrices.capture(poseState, modelRenderTranslations, localRenderTranslations, localOffsetX, localOffsetY, localOffsetZ);
+		matrices.captureWorldOffset(worldOffsetX, worldOffsetY, worldOffsetZ);
 	}
 
 	public Matrix4f getModelSpaceMatrix() {
 		setTrackingMatrices(true);
 
-		return this.modelSpaceMatrix;
+		return getTrackedMatrices().getModelSpaceMatrix();
 	}
 
 	public void setModelSpaceMatrix(Matrix4f matrix) {
-		this.modelSpaceMatrix.set(matrix);
+		getTrackedMatrices().setModelSpaceMatrix(matrix);
 	}
 
 	public Matrix4f getLocalSpaceMatrix() {
 		setTrackingMatrices(true);
 
-		return this.localSpaceMatrix;
+		return getTrackedMatrices().getLocalSpaceMatrix();
 	}
 
 	public void setLocalSpaceMatrix(Matrix4f matrix) {
-		this.localSpaceMatrix.set(matrix);
+		getTrackedMatrices().setLocalSpaceMatrix(matrix);
 	}
 
 	public Matrix4f getWorldSpaceMatrix() {
 		setTrackingMatrices(true);
 
-		return this.worldSpaceMatrix;
+		return getTrackedMatrices().getWorldSpaceMatrix();
 	}
 
 	public void setWorldSpaceMatrix(Matrix4f matrix) {
-		this.worldSpaceMatrix.set(matrix);
+		getTrackedMatrices().setWorldSpaceMatrix(matrix);
 	}
 
 	public void setWorldSpaceNormal(Matrix3f matrix) {
-		this.worldSpaceNormal = matrix;
+		getTrackedMatrices().worldSpaceNormal = matrix;
 	}
 
 	public Matrix3f getWorldSpaceNormal() {
-		return worldSpaceNormal;
+		return getTrackedMatrices().worldSpaceNormal;
 	}
 
 	/**
 	 * Get the position of the bone relative to its owner
 	 */
 	public Vector3d getLocalPosition() {
-		Vector4f vec = getLocalSpaceMatrix().transform(new Vector4f(0, 0, 0, 1));
+		Matrix4f matrix = getLocalSpaceMatrix();
 
-		return new Vector3d(vec.x(), vec.y(), vec.z());
+		return new Vector3d(matrix.m30(), matrix.m31(), matrix.m32());
 	}
 
 	/**
 	 * Get the position of the bone relative to the model it belongs to
 	 */
 	public Vector3d getModelPosition() {
-		Vector4f vec = getModelSpaceMatrix().transform(new Vector4f(0, 0, 0, 1));
+		Matrix4f matrix = getModelSpaceMatrix();
 
-		return new Vector3d(-vec.x() * 16f, vec.y() * 16f, vec.z() * 16f);
+		return new Vector3d(-matrix.m30() * 16f, matrix.m31() * 16f, matrix.m32() * 16f);
 	}
 
 	/**
 	 * Get the position of the bone relative to the world
 	 */
 	public Vector3d getWorldPosition() {
-		Vector4f vec = getWorldSpaceMatrix().transform(new Vector4f(0, 0, 0, 1));
+		Matrix4f matrix = getWorldSpaceMatrix();
 
-		return new Vector3d(vec.x(), vec.y(), vec.z());
+		return new Vector3d(matrix.m30(), matrix.m31(), matrix.m32());
 	}
 
 	public void setModelPosition(Vector3d pos) {
@@ -428,4 +487,86 @@ public class GeoBone {
 	public int hashCode() {
 		return Objects.hash(getName(), (getParent() != null ? getParent().getName() : 0), getCubes().size(), getChildBones().size());
 	}
+
+	/**
+	 * Storage for the tracked matrices of a bone, only allocated for bones that track them
+	 * <p>
+	 * Holds a copy of the bone's last captured render pose, and computes each space's matrix from it on first request
+	 */
+	private static final class TrackedMatrices {
+		private final Matrix4f poseState = new Matrix4f();
+		private final Matrix4f modelRenderTranslations = new Matrix4f();
+		private final Matrix4f localRenderTranslations = new Matrix4f();
+		private final Vector3f localOffset = new Vector3f();
+		private final Vector3f worldOffset = new Vector3f();
+		private final Matrix4f modelSpaceMatrix = new Matrix4f();
+		private final Matrix4f localSpaceMatrix = new Matrix4f();
+		private final Matrix4f worldSpaceMatrix = new Matrix4f();
+		private Matrix3f worldSpaceNormal = new Matrix3f();
+		private boolean modelSpaceDirty = false;
+		private boolean localSpaceDirty = false;
+		private boolean worldSpaceDirty = false;
+
+		private void capture(Matrix4f poseState, Matrix4f modelRenderTranslations, Matrix4f localRenderTranslations, float localOffsetX, float localOffsetY, float localOffsetZ) {
+			this.poseState.set(poseState);
+			this.modelRenderTranslations.set(modelRenderTranslations);
+			this.localRenderTranslations.set(localRenderTranslations);
+			this.localOffset.set(localOffsetX, localOffsetY, localOffsetZ);
+			this.modelSpaceDirty = true;
+			this.localSpaceDirty = true;
+		}
+
+		private void captureWorldOffset(float worldOffsetX, float worldOffsetY, float worldOffsetZ) {
+			this.worldOffset.set(worldOffsetX, worldOffsetY, worldOffsetZ);
+			this.worldSpaceDirty = true;
+		}
+
+		private Matrix4f getModelSpaceMatrix() {
+			if (this.modelSpaceDirty) {
+				this.modelSpaceMatrix.set(this.modelRenderTranslations).invert().mul(this.poseState);
+				this.modelSpaceDirty = false;
+			}
+
+			return this.modelSpaceMatrix;
+		}
+
+		private Matrix4f getLocalSpaceMatrix() {
+			if (this.localSpaceDirty) {
+				this.localSpaceMatrix.set(this.localRenderTranslations).invert().mul(this.poseState);
+				this.localSpaceMatrix.m30(this.localSpaceMatrix.m30() + this.localOffset.x)
+						.m31(this.localSpaceMatrix.m31() + this.localOffset.y)
+						.m32(this.localSpaceMatrix.m32() + this.localOffset.z);
+				this.localSpaceDirty = false;
+			}
+
+			return this.localSpaceMatrix;
+		}
+
+		private Matrix4f getWorldSpaceMatrix() {
+			if (this.worldSpaceDirty) {
+				this.worldSpaceMatrix.set(getLocalSpaceMatrix());
+				this.worldSpaceMatrix.m30(this.worldSpaceMatrix.m30() + this.worldOffset.x)
+						.m31(this.worldSpaceMatrix.m31() + this.worldOffset.y)
+						.m32(this.worldSpaceMatrix.m32() + this.worldOffset.z);
+				this.worldSpaceDirty = false;
+			}
+
+			return this.worldSpaceMatrix;
+		}
+
+		private void setModelSpaceMatrix(Matrix4f matrix) {
+			this.modelSpaceMatrix.set(matrix);
+			this.modelSpaceDirty = false;
+		}
+
+		private void setLocalSpaceMatrix(Matrix4f matrix) {
+			this.localSpaceMatrix.set(matrix);
+			this.localSpaceDirty = false;
+		}
+
+		private void setWorldSpaceMatrix(Matrix4f matrix) {
+			this.worldSpaceMatrix.set(matrix);
+			this.worldSpaceDirty = false;
+		}
+	}
 }
@@ -1,6 +1,5 @@
 package software.bernie.geckolib.constant;
 
-import it.unimi.dsi.fastutil.objects.Reference2DoubleMap;
 import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
 import net.minecraft.client.model.HumanoidModel;
 import net.minecraft.core.BlockPos;
@@ -15,6 +14,8 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.GeckoLibConstants;
 import software.bernie.geckolib.animatable.manager.AnimatableManager;
+import software.bernie.geckolib.animatable.processing.AnimationLodPolicy;
+import software.bernie.geckolib.animation.state.QueryValueBuffer;
 import software.bernie.geckolib.constant.dataticket.DataTicket;
 import software.bernie.geckolib.constant.dataticket.SerializableDataTicket;
 
@@ -73,13 +74,16 @@ public final class DataTickets {
 	public static final DataTicket<Boolean> IS_LEFT_HANDED = DataTicket.create("is_left_handed", Boolean.class);
 	public static final DataTicket<Boolean> IS_CROUCHING = DataTicket.create("is_crouching", Boolean.class);
 	public static final DataTicket<Vec3> ELYTRA_ROTATION = DataTicket.create("elytra_rotation", Vec3.class);
+	public static final DataTicket<Double> CAMERA_DISTANCE = DataTicket.create("camera_distance", Double.class);
 
 	@ApiStatus.Internal
 	public static final DataTicket<EnumMap> PER_SLOT_RENDER_DATA = DataTicket.create("per_slot_render_data", EnumMap.class);
 	@ApiStatus.Internal
-	public static final DataTicket<Reference2DoubleMap> QUERY_VALUES = DataTicket.create("query_values", Reference2DoubleMap.class);
+	public static final DataTicket<QueryValueBuffer> QUERY_VALUES = DataTicket.create("query_values", QueryValueBuffer.class);
 	@ApiStatus.Internal
 	public static final DataTicket<Reference2ObjectMap> PER_BONE_TASKS = DataTicket.create("per_bone_render_tasks", Reference2ObjectMap.class);
+	@ApiStatus.Internal
+	public static final DataTicket<AnimationLodPolicy.Level> ANIMATION_LOD = DataTicket.create("animation_lod", AnimationLodPolicy.Level.class);
 
 	// Builtin serializable tickets
 	// These are not used anywhere by default, but are provided as examples and for ease of use
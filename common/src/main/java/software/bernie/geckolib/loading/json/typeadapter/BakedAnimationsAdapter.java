@@ -11,9 +11,13 @@ import software.bernie.geckolib.animation.Animation;
 import software.bernie.geckolib.animation.EasingType;
 import software.bernie.geckolib.animation.keyframe.BoneAnimation;
 import software.bernie.geckolib.animation.keyframe.Keyframe;
+import software.bernie.geckolib.animation.keyframe.KeyframeSamples;
 import software.bernie.geckolib.animation.keyframe.KeyframeStack;
 import software.bernie.geckolib.loading.math.MathParser;
 import software.bernie.geckolib.loading.math.MathValue;
+import software.bernie.geckolib.loading.math.compile.FlatMathValue;
+import software.bernie.geckolib.loading.math.compile.MolangCompiler;
+import software.bernie.geckolib.loading.math.compile.MolangOptimizer;
 import software.bernie.geckolib.loading.math.value.Constant;
 import software.bernie.geckolib.loading.object.BakedAnimations;
 import software.bernie.geckolib.object.CompoundException;
@@ -191,12 +195,13 @@ public class BakedAnimationsAdapter implements JsonDeserializer<BakedAnimations>
 			double timeDelta = curTime - prevTime;
 
 			JsonArray keyFrameVector = element instanceof JsonArray array ? array : GsonHelper.getAsJsonArray(element.getAsJsonObject(), "vector");
-			MathValue rawXValue = MathParser.parseJson(keyFrameVector.get(0));
-			MathValue rawYValue = MathParser.parseJson(keyFrameVector.get(1));
-			MathValue rawZValue = MathParser.parseJson(keyFrameVector.get(2));
-			MathValue xValue = compressMathValue(isForRotation && rawXValue instanceof Constant ? new Constant(Math.toRadians(-rawXValue.get(null))) : rawXValue);
-			MathValue yValue = compressMathValue(isForRotation && rawYValue instanceof Constant ? new Constant(Math.toRadians(-rawYValue.get(null))) : rawYValue);
-			MathValue zValue = compressMathValue(isForRotation && rawZValue instanceof Constant ? new Constant(Math.toRadians(rawZValue.get(null))) : rawZValue);
+			MathValue[] rawValues = optimizeMathValues(MathParser.parseJson(keyFrameVector.get(0)), MathParser.parseJson(keyFrameVector.get(1)), MathParser.parseJson(keyFrameVector.get(2)));
+			MathValue rawXValue = rawValues[0];
+			MathValue rawYValue = rawValues[1];
+			MathValue rawZValue = rawValues[2];
+			MathValue xValue = compressMathValue(isForRotation && !rawXValue.isMutable() ? new Constant(Math.toRadians(-rawXValue.get(null))) : rawXValue);
+			MathValue yValue = compressMathValue(isForRotation && !rawYValue.isMutable() ? new Constant(Math.toRadians(-rawYValue.get(null))) : rawYValue);
+			MathValue zValue = compressMathValue(isForRotation && !rawZValue.isMutable() ? new Constant(Math.toRadians(rawZValue.get(null))) : rawZValue);
 
 			JsonObject entryObj = element instanceof JsonObject obj ? obj : null;
 			EasingType easingType = entryObj != null && entryObj.has("easing") ? EasingType.fromJson(entryObj.get("easing")) : EasingType.LINEAR;
@@ -219,7 +224,9 @@ public class BakedAnimationsAdapter implements JsonDeserializer<BakedAnimations>
 			prevEntry = entry;
 		}
 
-		return new KeyframeStack<>(addArgsForKeyframes(xFrames), addArgsForKeyframes(yFrames), addArgsForKeyframes(zFrames));
+		KeyframeStack<Keyframe<MathValue>> stack = new KeyframeStack<>(addArgsForKeyframes(xFrames), addArgsForKeyframes(yFrames), addArgsForKeyframes(zFrames));
+
+		return stack.withSamples(KeyframeSamples.sample(stack));
 	}
 
 	private List<Keyframe<MathValue>> addArgsForKeyframes(List<Keyframe<MathValue>> frames) {
@@ -261,8 +268,25 @@ public class BakedAnimationsAdapter implements JsonDeserializer<BakedAnimations>
 		return frames;
 	}
 
+	private MathValue[] optimizeMathValues(MathValue... values) {
+		if (!MolangOptimizer.isEnabled())
+			return values;
+
+		return MolangOptimizer.optimize(values);
+	}
+
 	private MathValue compressMathValue(MathValue input) {
-		if (COMPRESSION_CACHE == null || input.isMutable())
+		if (input.isMutable()) {
+			if (MolangCompiler.isEnabled())
+				input = MolangCompiler.compile(input);
+
+			if (FlatMathValue.isEnabled())
+				input = FlatMathValue.lower(input);
+
+			return input;
+		}
+
+		if (COMPRESSION_CACHE == null)
 			return input;
 
 		return COMPRESSION_CACHE.computeIfAbsent(input.get(null), Constant::new);
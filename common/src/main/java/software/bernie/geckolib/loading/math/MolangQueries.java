@@ -1,8 +1,10 @@
 package software.bernie.geckolib.loading.math;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Reference2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.Util;
 import net.minecraft.core.Direction;
 import net.minecraft.util.Mth;
 import net.minecraft.world.InteractionHand;
@@ -17,6 +19,7 @@ import org.apache.commons.lang3.mutable.MutableObject;
 import software.bernie.geckolib.animatable.GeoAnimatable;
 import software.bernie.geckolib.animatable.processing.AnimationController;
 import software.bernie.geckolib.animatable.processing.AnimationState;
+import software.bernie.geckolib.animation.state.QueryValueBuffer;
 import software.bernie.geckolib.constant.DataTickets;
 import software.bernie.geckolib.loading.math.value.Variable;
 import software.bernie.geckolib.renderer.base.GeoRenderState;
@@ -120,7 +123,10 @@ public final class MolangQueries {
 	public static final String YAW_SPEED = "query.yaw_speed";
 
 	private static final Map<String, Variable> VARIABLES = new Object2ObjectOpenHashMap<>();
+	private static final Reference2IntOpenHashMap<Variable> VARIABLE_SLOTS = Util.make(new Reference2IntOpenHashMap<>(), map -> map.defaultReturnValue(-1));
 	private static final Map<Variable, ToDoubleFunction<Actor<? extends GeoAnimatable>>> ACTOR_VARIABLES = new Reference2ObjectOpenHashMap<>();
+	private static final Set<Variable> FRAME_GLOBAL_VARIABLES = new ReferenceOpenHashSet<>();
+	private static final ThreadLocal<FrameValueCache> FRAME_VALUES = ThreadLocal.withInitial(FrameValueCache::new);
 
 	static {
 		setDefaultQueryValues();
@@ -141,7 +147,7 @@ public final class MolangQueries {
 	 * @see MathParser#registerVariable(Variable)
 	 */
 	static void registerVariable(Variable variable) {
-		VARIABLES.put(variable.name(), variable);
+		VARIABLES.put(variable.name(), assignSlot(variable));
 	}
 
 	/**
@@ -150,7 +156,32 @@ public final class MolangQueries {
 	 * @see MathParser#getVariableFor(String)
 	 */
 	static Variable getVariableFor(String name) {
-		return VARIABLES.computeIfAbsent(applyPrefixAliases(name, "query.", "q."), key -> new Variable(key, 0));
+		return VARIABLES.computeIfAbsent(applyPrefixAliases(name, "query.", "q."), key -> assignSlot(new Variable(key, 0)));
+	}
+
+	/**
+	 * Assign the next available {@link #getVariableSlot slot} to the given {@link Variable}, if it doesn't already have one
+	 */
+	private static Variable assignSlot(Variable variable) {
+		VARIABLE_SLOTS.putIfAbsent(variable, VARIABLE_SLOTS.size());
+
+		return variable;
+	}
+
+	/**
+	 * Get the dense index assigned to the given {@link Variable} when it was registered, for use in indexed storage such as {@link QueryValueBuffer}
+	 *
+	 * @return The slot for the variable, or -1 if the variable was never registered
+	 */
+	public static int getVariableSlot(Variable variable) {
+		return VARIABLE_SLOTS.getInt(variable);
+	}
+
+	/**
+	 * Get the number of {@link #getVariableSlot slots} assigned so far
+	 */
+	public static int getVariableSlotCount() {
+		return VARIABLE_SLOTS.size();
 	}
 
 	/**
@@ -182,10 +213,36 @@ public final class MolangQueries {
 	 * @param valueFunction The function that generates the variable value based on the animatable and render state
 	 */
 	public static <T> void setActorVariable(String name, ToDoubleFunction<Actor<T>> valueFunction) {
+		setActorVariable(name, QueryScope.ACTOR, valueFunction);
+	}
+
+	/**
+	 * Set a Molang variable that operates on data relevant to the {@link GeoAnimatable} or associated variables at the time of rendering,
+	 * declaring whether its value depends on the actor it is computed for
+	 * <p>
+	 * {@link QueryScope#FRAME Frame-scoped} variables are computed at most once per frame and shared by every actor rendered in that frame,
+	 * so their value function must not depend on the {@link Actor#animatable() animatable}, {@link Actor#renderState() render state}, or {@link Actor#controller() controller}
+	 * <p>
+	 * You should only be doing this once, at mod construct
+	 *
+	 * @param <T> The animatable type your variable operates on
+	 * @param scope The scope of the variable's value
+	 * @param valueFunction The function that generates the variable value based on the animatable and render state
+	 */
+	public static <T> void setActorVariable(String name, QueryScope scope, ToDoubleFunction<Actor<T>> valueFunction) {
 		Variable variable = getVariableFor(name);
 
+		int slot = getVariableSlot(variable);
+
 		ACTOR_VARIABLES.put(variable, (ToDoubleFunction)valueFunction);
-		getVariableFor(name).set(state -> state.getActorVariableValue(variable));
+		variable.set(new ActorValue(slot));
+
+		if (scope == QueryScope.FRAME) {
+			FRAME_GLOBAL_VARIABLES.add(variable);
+		}
+		else {
+			FRAME_GLOBAL_VARIABLES.remove(variable);
+		}
 	}
 
 	/**
@@ -221,17 +278,117 @@ public final class MolangQueries {
 	}
 
 	/**
-	 * Compute and cache the provided variables into the provided value map, to be passed into a following render pass
+	 * Whether the given {@link Variable} is known to have the same value for every animatable rendered in a given frame
+	 * <p>
+	 * This includes constants, and queries that only depend on the level, client player, or camera
+	 */
+	public static boolean isFrameGlobalVariable(Variable variable) {
+		return FRAME_GLOBAL_VARIABLES.contains(variable);
+	}
+
+	/**
+	 * Mark an existing variable as having the same value for every animatable rendered in a given frame
+	 */
+	private static void markFrameGlobal(String name) {
+		FRAME_GLOBAL_VARIABLES.add(getVariableFor(name));
+	}
+
+	/**
+	 * Compute and cache the provided variables into the provided value buffer, to be passed into a following render pass
+	 * <p>
+	 * Variables that already have a value in the buffer are not re-computed
 	 *
 	 * @param actor The actor instance for this render pass
 	 * @param variables The list of variables to compute values for
-	 * @param valueMap The map to store the computed values into
+	 * @param values The buffer to store the computed values into
 	 * @param <T> The lowest-common type of object your actor needs to be in order to evaluate this variable
 	 */
-	public static <T extends GeoAnimatable> void buildActorVariables(Actor<T> actor, Set<Variable> variables, Reference2DoubleMap<Variable> valueMap) {
+	public static <T extends GeoAnimatable> void buildActorVariables(Actor<T> actor, Set<Variable> variables, QueryValueBuffer values) {
+		QueryValueBuffer frameValues = null;
+
 		for (Variable variable : variables) {
-			if (ACTOR_VARIABLES.containsKey(variable))
-				valueMap.computeIfAbsent(variable, v -> ACTOR_VARIABLES.get(v).applyAsDouble(actor));
+			ToDoubleFunction<Actor<? extends GeoAnimatable>> valueFunction = ACTOR_VARIABLES.get(variable);
+
+			if (valueFunction == null)
+				continue;
+
+			int slot = getVariableSlot(variable);
+
+			if (values.has(slot))
+				continue;
+
+			if (FRAME_GLOBAL_VARIABLES.contains(variable)) {
+				if (frameValues == null)
+					frameValues = FRAME_VALUES.get().forFrame(actor);
+
+				if (!frameValues.has(slot))
+					frameValues.set(slot, valueFunction.applyAsDouble(actor));
+
+				values.set(slot, frameValues.get(slot));
+			}
+			else {
+				values.set(slot, valueFunction.applyAsDouble(actor));
+			}
+		}
+	}
+
+	/**
+	 * Value function for an {@link #setActorVariable actor variable}, reading its pre-computed value from the given {@link #getVariableSlot slot}
+	 * <p>
+	 * Recognised directly by {@link Variable#get}, so that reading an actor variable is an indexed load rather than a function call
+	 *
+	 * @param slot The slot of the actor variable
+	 */
+	public record ActorValue(int slot) implements ToDoubleFunction<AnimationState<?>> {
+		@Override
+		public double applyAsDouble(AnimationState<?> animationState) {
+			return animationState.getActorVariableValue(this.slot);
+		}
+	}
+
+	/**
+	 * The scope of an {@link #setActorVariable(String, QueryScope, ToDoubleFunction) actor variable's} value
+	 */
+	public enum QueryScope {
+		/**
+		 * The value depends on the actor it is computed for, and is computed separately for each actor
+		 */
+		ACTOR,
+		/**
+		 * The value is the same for every actor rendered in a given frame, and is computed at most once per frame
+		 */
+		FRAME
+	}
+
+	/**
+	 * Per-thread cache of the {@link QueryScope#FRAME frame-scoped} variable values computed for the current frame
+	 * <p>
+	 * A frame is identified by the level, client player, camera position instance, game time, and partial tick of the actors rendered in it;
+	 * the cached values are discarded as soon as an actor arrives with a different combination
+	 */
+	private static final class FrameValueCache {
+		private final QueryValueBuffer values = new QueryValueBuffer();
+		private Level level;
+		private Player clientPlayer;
+		private Vec3 cameraPos;
+		private long gameTime;
+		private float partialTick;
+
+		private QueryValueBuffer forFrame(Actor<?> actor) {
+			long gameTime = actor.level == null ? 0 : actor.level.getGameTime();
+
+			if (actor.level != this.level || actor.clientPlayer != this.clientPlayer || actor.cameraPos != this.cameraPos ||
+				gameTime != this.gameTime || Float.compare(actor.partialTick, this.partialTick) != 0) {
+				this.level = actor.level;
+				this.clientPlayer = actor.clientPlayer;
+				this.cameraPos = actor.cameraPos;
+				this.gameTime = gameTime;
+				this.partialTick = actor.partialTick;
+
+				this.values.clear();
+			}
+
+			return this.values;
 		}
 	}
 
@@ -254,20 +411,23 @@ public final class MolangQueries {
 		setVariableValue("PI", Math.PI);
 		setVariableValue("E", Math.E);
 
-		setActorVariable(ACTOR_COUNT, actor -> ClientUtil.getVisibleEntityCount());
+		setActorVariable(ACTOR_COUNT, QueryScope.FRAME, actor -> ClientUtil.getVisibleEntityCount());
 		setActorVariable(ANIM_TIME, actor -> actor.controller().getValue().getCurrentAnimationSeconds());
 		setActorVariable(CONTROLLER_SPEED, actor -> actor.controller.getValue().getAnimationSpeed());
-		setActorVariable(CARDINAL_PLAYER_FACING, actor -> actor.clientPlayer.getDirection().ordinal());
-		setActorVariable(DAY, actor -> actor.level.getGameTime() / 24000d);
-		setActorVariable(FRAME_ALPHA, actor -> actor.partialTick);
-		setActorVariable(HAS_CAPE, actor -> ClientUtil.clientPlayerHasCape() ? 1 : 0);
-		setActorVariable(IS_FIRST_PERSON, actor -> ClientUtil.isFirstPerson() ? 1 : 0);
+		setActorVariable(CARDINAL_PLAYER_FACING, QueryScope.FRAME, actor -> actor.clientPlayer.getDirection().ordinal());
+		setActorVariable(DAY, QueryScope.FRAME, actor -> actor.level.getGameTime() / 24000d);
+		setActorVariable(FRAME_ALPHA, QueryScope.FRAME, actor -> actor.partialTick);
+		setActorVariable(HAS_CAPE, QueryScope.FRAME, actor -> ClientUtil.clientPlayerHasCape() ? 1 : 0);
+		setActorVariable(IS_FIRST_PERSON, QueryScope.FRAME, actor -> ClientUtil.isFirstPerson() ? 1 : 0);
 		setActorVariable(LIFE_TIME, actor -> actor.animationTicks / 20d);
-		setActorVariable(MOON_BRIGHTNESS, actor -> actor.level.getMoonBrightness());
-		setActorVariable(MOON_PHASE, actor -> actor.level.getMoonPhase());
-		setActorVariable(PLAYER_LEVEL, actor -> actor.clientPlayer.experienceLevel);
-		setActorVariable(TIME_OF_DAY, actor -> actor.level.getDayTime() / 24000d);
-		setActorVariable(TIME_STAMP, actor -> actor.level.getGameTime());
+		setActorVariable(MOON_BRIGHTNESS, QueryScope.FRAME, actor -> actor.level.getMoonBrightness());
+		setActorVariable(MOON_PHASE, QueryScope.FRAME, actor -> actor.level.getMoonPhase());
+		setActorVariable(PLAYER_LEVEL, QueryScope.FRAME, actor -> actor.clientPlayer.experienceLevel);
+		setActorVariable(TIME_OF_DAY, QueryScope.FRAME, actor -> actor.level.getDayTime() / 24000d);
+		setActorVariable(TIME_STAMP, QueryScope.FRAME, actor -> actor.level.getGameTime());
+
+		markFrameGlobal("PI");
+		markFrameGlobal("E");
 
 		setDefaultBlockEntityQueryValues();
 		setDefaultEntityQueryValues();
@@ -289,7 +449,11 @@ public final class MolangQueries {
 
 			return directionId < 2 ? 6 : directionId;
 		});
-		MolangQueries.<Entity>setActorVariable(DISTANCE_FROM_CAMERA, actor -> actor.cameraPos.distanceTo(actor.animatable.position()));
+		MolangQueries.<Entity>setActorVariable(DISTANCE_FROM_CAMERA, actor -> {
+			Double distance = actor.renderState.getOrDefaultGeckolibData(DataTickets.CAMERA_DISTANCE, null);
+
+			return distance != null ? distance : actor.cameraPos.distanceTo(actor.animatable.position());
+		});
 		MolangQueries.<Entity>setActorVariable(GET_ACTOR_INFO_ID, actor -> actor.animatable.getId());
 		MolangQueries.<Entity>setActorVariable(EQUIPMENT_COUNT, actor -> actor.animatable instanceof EquipmentUser armorable ? Arrays.stream(EquipmentSlot.values()).filter(EquipmentSlot::isArmor).filter(slot -> !armorable.getItemBySlot(slot).isEmpty()).count() : 0);
 		MolangQueries.<Entity>setActorVariable(HAS_COLLISION, actor -> !actor.animatable.noPhysics ? 1 : 0);
@@ -0,0 +1,198 @@
+package software.bernie.geckolib.loading.math.compile;
+
+import net.minecraft.util.Mth;
+import org.jetbrains.annotations.ApiStatus;
+import software.bernie.geckolib.loading.math.MathValue;
+import software.bernie.geckolib.loading.math.value.Variable;
+import software.bernie.geckolib.util.RenderUtil;
+
+import java.util.Set;
+
+/**
+ * Base class for {@link MathValue MathValues} compiled from an interpreted expression tree into a faster-evaluating form
+ * <p>
+ * Only {@link #get} is implemented by the compiled form, with all other properties deferred to the interpreted {@link #getSource() source} tree it was compiled from
+ *
+ * @see MolangCompiler
+ * @see FlatMathValue
+ */
+public abstract class CompiledMathValue implements MathValue {
+    private final MathValue source;
+
+    protected CompiledMathValue(MathValue source) {
+        this.source = source;
+    }
+
+    /**
+     * Get the interpreted {@link MathValue} this value was compiled from
+     */
+    public MathValue getSource() {
+        return this.source;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return this.source.isMutable();
+    }
+
+    @Override
+    public Set<Variable> getUsedVariables() {
+        return this.source.getUsedVariables();
+    }
+
+    @Override
+    public String toString() {
+        return this.source.toString();
+    }
+
+    /**
+     * Static equivalents of the built-in {@link software.bernie.geckolib.loading.math.Operator Operators} and {@link software.bernie.geckolib.loading.math.function.MathFunction MathFunctions},
+     * called directly by compiled values in place of the interpreted nodes
+     * <p>
+     * Each must exactly match the computation of the operator or function it replaces
+     */
+    @ApiStatus.Internal
+    public static final class Intrinsics {
+        private Intrinsics() {}
+
+        public static double divide(double a, double b) {
+            return b == 0 ? a : a / b;
+        }
+
+        public static double modulo(double a, double b) {
+            return b == 0 ? a : a % b;
+        }
+
+        public static double and(double a, double b) {
+            return a != 0 && b != 0 ? 1 : 0;
+        }
+
+        public static double or(double a, double b) {
+            return a != 0 || b != 0 ? 1 : 0;
+        }
+
+        public static double lessThan(double a, double b) {
+            return a < b ? 1 : 0;
+        }
+
+        public static double lessThanOrEqual(double a, double b) {
+            return a <= b ? 1 : 0;
+        }
+
+        public static double greaterThan(double a, double b) {
+            return a > b ? 1 : 0;
+        }
+
+        public static double greaterThanOrEqual(double a, double b) {
+            return a >= b ? 1 : 0;
+        }
+
+        public static double equal(double a, double b) {
+            return Math.abs(a - b) < 0.00001 ? 1 : 0;
+        }
+
+        public static double notEqual(double a, double b) {
+            return Math.abs(a - b) >= 0.00001 ? 1 : 0;
+        }
+
+        public static double booleanNegate(double value) {
+            return value == 0 ? 1 : 0;
+        }
+
+        public static double abs(double value) {
+            return Math.abs(value);
+        }
+
+        public static double acos(double value) {
+            return Math.acos((float)value * Mth.DEG_TO_RAD);
+        }
+
+        public static double asin(double value) {
+            return Math.asin(value * Mth.DEG_TO_RAD);
+        }
+
+        public static double atan(double value) {
+            return Math.atan(value * Mth.DEG_TO_RAD);
+        }
+
+        public static double atan2(double y, double x) {
+            return Math.atan2(y, x) * Mth.RAD_TO_DEG;
+        }
+
+        public static double cos(double value) {
+            return Mth.cos((float)value * Mth.DEG_TO_RAD);
+        }
+
+        public static double sin(double value) {
+            return Math.sin(value * Mth.DEG_TO_RAD);
+        }
+
+        public static double exp(double value) {
+            return Math.exp((float)value);
+        }
+
+        public static double ln(double value) {
+            return Math.log((float)value);
+        }
+
+        public static double mod(double value, double modulus) {
+            return value % modulus;
+        }
+
+        public static double pow(double value, double power) {
+            return Math.pow(value, power);
+        }
+
+        public static double sqrt(double value) {
+            return Math.sqrt(value);
+        }
+
+        public static double clamp(double value, double min, double max) {
+            return Mth.clamp(value, min, max);
+        }
+
+        public static double max(double a, double b) {
+            return Math.max(a, b);
+        }
+
+        public static double min(double a, double b) {
+            return Math.min(a, b);
+        }
+
+        public static double toDeg(double value) {
+            return Math.toDegrees(value);
+        }
+
+        public static double toRad(double value) {
+            return Math.toRadians(value);
+        }
+
+        public static double ceil(double value) {
+            return Math.ceil(value);
+        }
+
+        public static double floor(double value) {
+            return Math.floor(value);
+        }
+
+        public static double round(double value) {
+            return Math.round(value);
+        }
+
+        public static double trunc(double value) {
+            return (long)value;
+        }
+
+        public static double hermiteBlend(double value) {
+            return (3 * value * value) - (2 * value * value * value);
+        }
+
+        public static double lerp(double delta, double min, double max) {
+            return Mth.lerp(delta, min, max);
+        }
+
+        public static double lerpRotate(double delta, double min, double max) {
+            return RenderUtil.lerpYaw(delta, min, max);
+        }
+    }
+}
@@ -0,0 +1,452 @@
+package software.bernie.geckolib.loading.math.compile;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.Util;
+import software.bernie.geckolib.GeckoLibConstants;
+import software.bernie.geckolib.animatable.processing.AnimationState;
+import software.bernie.geckolib.loading.math.MathValue;
+import software.bernie.geckolib.loading.math.Operator;
+import software.bernie.geckolib.loading.math.function.MathFunction;
+import software.bernie.geckolib.loading.math.function.generic.*;
+import software.bernie.geckolib.loading.math.function.limit.ClampFunction;
+import software.bernie.geckolib.loading.math.function.limit.MaxFunction;
+import software.bernie.geckolib.loading.math.function.limit.MinFunction;
+import software.bernie.geckolib.loading.math.function.misc.ToDegFunction;
+import software.bernie.geckolib.loading.math.function.misc.ToRadFunction;
+import software.bernie.geckolib.loading.math.function.round.*;
+import software.bernie.geckolib.loading.math.value.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flat, register-based compiled form of a {@link MathValue} tree
+ * <p>
+ * The tree is lowered into a compact instruction array, a constant pool, and tables of the {@link Variable Variables} and other objects it references,
+ * then evaluated by a single loop over a {@code double[]} register file rather than by recursively walking the tree.<br>
+ * This keeps evaluation of large numbers of expressions cache-friendly, and the lowered form consists only of plain arrays.
+ * <p>
+ * Each instruction is {@link #INSTRUCTION_WIDTH} ints wide, holding its opcode, destination register, and up to three operands.<br>
+ * Constructs that can't be lowered (such as custom {@link MathFunction MathFunctions} or random functions) are called as interpreted sub-trees.
+ * <p>
+ * Disabled by default. As expressions are lowered when animations are loaded, enabling or disabling this only takes effect after the next resource reload.<br>
+ * If {@link MolangCompiler bytecode compilation} is also enabled, it takes priority
+ */
+public final class FlatMathValue extends CompiledMathValue {
+    public static final int INSTRUCTION_WIDTH = 5;
+
+    private static final int CONSTANT = 0;
+    private static final int VARIABLE = 1;
+    private static final int ASSIGN = 2;
+    private static final int CALL = 3;
+    private static final int JUMP = 4;
+    private static final int JUMP_IF_ZERO = 5;
+    private static final int NEGATE = 6;
+    private static final int NOT = 7;
+    private static final int OPERATOR = 8;
+    private static final int ADD = 9;
+    private static final int SUB = 10;
+    private static final int MUL = 11;
+    private static final int DIV = 12;
+    private static final int MODULO = 13;
+    private static final int POW = 14;
+    private static final int AND = 15;
+    private static final int OR = 16;
+    private static final int LT = 17;
+    private static final int LTE = 18;
+    private static final int GT = 19;
+    private static final int GTE = 20;
+    private static final int EQUAL = 21;
+    private static final int NOT_EQUAL = 22;
+    private static final int ABS = 23;
+    private static final int ACOS = 24;
+    private static final int ASIN = 25;
+    private static final int ATAN = 26;
+    private static final int ATAN2 = 27;
+    private static final int COS = 28;
+    private static final int SIN = 29;
+    private static final int EXP = 30;
+    private static final int LN = 31;
+    private static final int MOD = 32;
+    private static final int SQRT = 33;
+    private static final int CLAMP = 34;
+    private static final int MAX = 35;
+    private static final int MIN = 36;
+    private static final int TO_DEG = 37;
+    private static final int TO_RAD = 38;
+    private static final int CEIL = 39;
+    private static final int FLOOR = 40;
+    private static final int ROUND = 41;
+    private static final int TRUNC = 42;
+    private static final int HERMITE_BLEND = 43;
+    private static final int LERP = 44;
+    private static final int LERP_ROTATE = 45;
+
+    private static final Map<Operator, Integer> OPERATOR_OPCODES = Util.make(new Reference2ObjectOpenHashMap<>(14), map -> {
+        map.put(Operator.ADD, ADD);
+        map.put(Operator.SUB, SUB);
+        map.put(Operator.MUL, MUL);
+        map.put(Operator.DIV, DIV);
+        map.put(Operator.MOD, MODULO);
+        map.put(Operator.POW, POW);
+        map.put(Operator.AND, AND);
+        map.put(Operator.OR, OR);
+        map.put(Operator.LT, LT);
+        map.put(Operator.LTE, LTE);
+        map.put(Operator.GT, GT);
+        map.put(Operator.GTE, GTE);
+        map.put(Operator.EQUAL, EQUAL);
+        map.put(Operator.NOT_EQUAL, NOT_EQUAL);
+    });
+    private static final Map<Class<? extends MathFunction>, FunctionOpcode> FUNCTION_OPCODES = Util.make(new Reference2ObjectOpenHashMap<>(24), map -> {
+        map.put(AbsFunction.class, new FunctionOpcode(ABS, 0));
+        map.put(ACosFunction.class, new FunctionOpcode(ACOS, 0));
+        map.put(ASinFunction.class, new FunctionOpcode(ASIN, 0));
+        map.put(ATanFunction.class, new FunctionOpcode(ATAN, 0));
+        map.put(ATan2Function.class, new FunctionOpcode(ATAN2, 0, 1));
+        map.put(CosFunction.class, new FunctionOpcode(COS, 0));
+        map.put(SinFunction.class, new FunctionOpcode(SIN, 0));
+        map.put(ExpFunction.class, new FunctionOpcode(EXP, 0));
+        map.put(LogFunction.class, new FunctionOpcode(LN, 0));
+        map.put(ModFunction.class, new FunctionOpcode(MOD, 0, 1));
+        map.put(PowFunction.class, new FunctionOpcode(POW, 0, 1));
+        map.put(SqrtFunction.class, new FunctionOpcode(SQRT, 0));
+        map.put(ClampFunction.class, new FunctionOpcode(CLAMP, 0, 1, 2));
+        map.put(MaxFunction.class, new FunctionOpcode(MAX, 0, 1));
+        map.put(MinFunction.class, new FunctionOpcode(MIN, 0, 1));
+        map.put(ToDegFunction.class, new FunctionOpcode(TO_DEG, 0));
+        map.put(ToRadFunction.class, new FunctionOpcode(TO_RAD, 0));
+        map.put(CeilFunction.class, new FunctionOpcode(CEIL, 0));
+        map.put(FloorFunction.class, new FunctionOpcode(FLOOR, 0));
+        map.put(RoundFunction.class, new FunctionOpcode(ROUND, 0));
+        map.put(TruncateFunction.class, new FunctionOpcode(TRUNC, 0));
+        map.put(HermiteBlendFunction.class, new FunctionOpcode(HERMITE_BLEND, 0));
+        map.put(LerpFunction.class, new FunctionOpcode(LERP, 2, 0, 1));
+        map.put(LerpRotFunction.class, new FunctionOpcode(LERP_ROTATE, 2, 0, 1));
+    });
+    private static final ThreadLocal<RegisterFile> REGISTERS = ThreadLocal.withInitial(RegisterFile::new);
+
+    private static boolean enabled = false;
+
+    private final int[] code;
+    private final double[] constants;
+    private final Variable[] variables;
+    private final MathValue[] calls;
+    private final Operator[] operators;
+    private final int registerCount;
+
+    private FlatMathValue(MathValue source, int[] code, double[] constants, Variable[] variables, MathValue[] calls, Operator[] operators, int registerCount) {
+        super(source);
+
+        this.code = code;
+        this.constants = constants;
+        this.variables = variables;
+        this.calls = calls;
+        this.operators = operators;
+        this.registerCount = registerCount;
+    }
+
+    /**
+     * Enable or disable lowering of Molang expressions when animations are loaded
+     * <p>
+     * Only takes effect for animations loaded after this is called
+     */
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Lower the given {@link MathValue} into its flat form, if it would benefit from it
+     * <p>
+     * Immutable values and single {@link Variable Variables} are returned as-is, as are any values that fail to lower
+     *
+     * @param value The interpreted value to lower
+     * @return A FlatMathValue equivalent to the input value, or the input value if not lowered
+     */
+    public static MathValue lower(MathValue value) {
+        if (!value.isMutable() || value instanceof Variable || value instanceof CompiledMathValue)
+            return value;
+
+        try {
+            return new Lowering().lower(value);
+        }
+        catch (Exception ex) {
+            GeckoLibConstants.LOGGER.debug("Unable to lower Molang expression, falling back to interpreted evaluation: '{}'", value, ex);
+
+            return value;
+        }
+    }
+
+    /**
+     * Get the instructions of this value, {@link #INSTRUCTION_WIDTH} ints per instruction
+     * <p>
+     * The returned array should not be modified
+     */
+    public int[] getCode() {
+        return this.code;
+    }
+
+    /**
+     * Get the number of registers this value needs to evaluate
+     */
+    public int getRegisterCount() {
+        return this.registerCount;
+    }
+
+    @Override
+    public double get(AnimationState<?> animationState) {
+        final RegisterFile registerFile = REGISTERS.get();
+        final int base = registerFile.push(this.registerCount);
+        final int[] code = this.code;
+        double[] registers = registerFile.registers;
+
+        try {
+            for (int pc = 0; pc < code.length; pc += INSTRUCTION_WIDTH) {
+                final int dest = base + code[pc + 1];
+                final int a = base + code[pc + 2];
+                final int b = base + code[pc + 3];
+                final int c = base + code[pc + 4];
+
+                switch (code[pc]) {
+                    case CONSTANT -> registers[dest] = this.constants[code[pc + 2]];
+                    case VARIABLE -> {
+                        double value = this.variables[code[pc + 2]].get(animationState);
+                        registers = registerFile.registers;
+                        registers[dest] = value;
+                    }
+                    case ASSIGN -> {
+                        this.variables[code[pc + 3]].set(registers[a]);
+                        registers[dest] = 0;
+                    }
+                    case CALL -> {
+                        double value = this.calls[code[pc + 2]].get(animationState);
+                        registers = registerFile.registers;
+                        registers[dest] = value;
+                    }
+                    case JUMP -> pc = code[pc + 2] - INSTRUCTION_WIDTH;
+                    case JUMP_IF_ZERO -> {
+                        if (registers[a] == 0)
+                            pc = code[pc + 3] - INSTRUCTION_WIDTH;
+                    }
+                    case NEGATE -> registers[dest] = -registers[a];
+                    case NOT -> registers[dest] = Intrinsics.booleanNegate(registers[a]);
+                    case OPERATOR -> registers[dest] = this.operators[code[pc + 4]].compute(registers[a], registers[b]);
+                    case ADD -> registers[dest] = registers[a] + registers[b];
+                    case SUB -> registers[dest] = registers[a] - registers[b];
+                    case MUL -> registers[dest] = registers[a] * registers[b];
+                    case DIV -> registers[dest] = Intrinsics.divide(registers[a], registers[b]);
+                    case MODULO -> registers[dest] = Intrinsics.modulo(registers[a], registers[b]);
+                    case POW -> registers[dest] = Intrinsics.pow(registers[a], registers[b]);
+                    case AND -> registers[dest] = Intrinsics.and(registers[a], registers[b]);
+                    case OR -> registers[dest] = Intrinsics.or(registers[a], registers[b]);
+                    case LT -> registers[dest] = Intrinsics.lessThan(registers[a], registers[b]);
+                    case LTE -> registers[dest] = Intrinsics.lessThanOrEqual(registers[a], registers[b]);
+                    case GT -> registers[dest] = Intrinsics.greaterThan(registers[a], registers[b]);
+                    case GTE -> registers[dest] = Intrinsics.greaterThanOrEqual(registers[a], registers[b]);
+                    case EQUAL -> registers[dest] = Intrinsics.equal(registers[a], registers[b]);
+                    case NOT_EQUAL -> registers[dest] = Intrinsics.notEqual(registers[a], registers[b]);
+                    case ABS -> registers[dest] = Intrinsics.abs(registers[a]);
+                    case ACOS -> registers[dest] = Intrinsics.acos(registers[a]);
+                    case ASIN -> registers[dest] = Intrinsics.asin(registers[a]);
+                    case ATAN -> registers[dest] = Intrinsics.atan(registers[a]);
+                    case ATAN2 -> registers[dest] = Intrinsics.atan2(registers[a], registers[b]);
+                    case COS -> registers[dest] = Intrinsics.cos(registers[a]);
+                    case SIN -> registers[dest] = Intrinsics.sin(registers[a]);
+                    case EXP -> registers[dest] = Intrinsics.exp(registers[a]);
+                    case LN -> registers[dest] = Intrinsics.ln(registers[a]);
+                    case MOD -> registers[dest] = Intrinsics.mod(registers[a], registers[b]);
+                    case SQRT -> registers[dest] = Intrinsics.sqrt(registers[a]);
+                    case CLAMP -> registers[dest] = Intrinsics.clamp(registers[a], registers[b], registers[c]);
+                    case MAX -> registers[dest] = Intrinsics.max(registers[a], registers[b]);
+                    case MIN -> registers[dest] = Intrinsics.min(registers[a], registers[b]);
+                    case TO_DEG -> registers[dest] = Intrinsics.toDeg(registers[a]);
+                    case TO_RAD -> registers[dest] = Intrinsics.toRad(registers[a]);
+                    case CEIL -> registers[dest] = Intrinsics.ceil(registers[a]);
+                    case FLOOR -> registers[dest] = Intrinsics.floor(registers[a]);
+                    case ROUND -> registers[dest] = Intrinsics.round(registers[a]);
+                    case TRUNC -> registers[dest] = Intrinsics.trunc(registers[a]);
+                    case HERMITE_BLEND -> registers[dest] = Intrinsics.hermiteBlend(registers[a]);
+                    case LERP -> registers[dest] = Intrinsics.lerp(registers[a], registers[b], registers[c]);
+                    case LERP_ROTATE -> registers[dest] = Intrinsics.lerpRotate(registers[a], registers[b], registers[c]);
+                    default -> throw new IllegalStateException("Invalid Molang opcode: " + code[pc]);
+                }
+            }
+
+            return registers[base];
+        }
+        finally {
+            registerFile.pop(base);
+        }
+    }
+
+    /**
+     * A lowered {@link MathFunction}
+     *
+     * @param opcode The opcode for the function
+     * @param evaluationOrder The indices of the function's {@link MathFunction#getArgs() args}, in the order the function evaluates them and the opcode takes them
+     */
+    private record FunctionOpcode(int opcode, int... evaluationOrder) {}
+
+    /**
+     * Per-thread register storage, used as a stack of register windows so that evaluation remains re-entrant
+     */
+    private static final class RegisterFile {
+        private double[] registers = new double[64];
+        private int top = 0;
+
+        private int push(int count) {
+            final int base = this.top;
+
+            this.top += count;
+
+            if (this.top > this.registers.length)
+                this.registers = Arrays.copyOf(this.registers, Math.max(this.top, this.registers.length * 2));
+
+            return base;
+        }
+
+        private void pop(int base) {
+            this.top = base;
+        }
+    }
+
+    /**
+     * Single-use lowering of one expression tree
+     * <p>
+     * Each value is lowered into a target register, with its operands placed in the registers immediately above it
+     */
+    private static final class Lowering {
+        private final IntArrayList code = new IntArrayList();
+        private final DoubleArrayList constants = new DoubleArrayList();
+        private final List<Variable> variables = new ObjectArrayList<>();
+        private final Reference2IntOpenHashMap<Variable> variableIndices = new Reference2IntOpenHashMap<>();
+        private final List<MathValue> calls = new ObjectArrayList<>();
+        private final List<Operator> operators = new ObjectArrayList<>();
+        private int registerCount = 1;
+
+        private Lowering() {
+            this.variableIndices.defaultReturnValue(-1);
+        }
+
+        private FlatMathValue lower(MathValue value) {
+            lower(value, 0);
+
+            return new FlatMathValue(value, this.code.toIntArray(), this.constants.toDoubleArray(), this.variables.toArray(new Variable[0]),
+                                     this.calls.toArray(new MathValue[0]), this.operators.toArray(new Operator[0]), this.registerCount);
+        }
+
+        private void lower(MathValue value, int dest) {
+            this.registerCount = Math.max(this.registerCount, dest + 1);
+
+            if (!value.isMutable()) {
+                this.constants.add(value.get(null));
+                emit(CONSTANT, dest, this.constants.size() - 1, 0, 0);
+            }
+            else if (value instanceof Group group) {
+                lower(group.contents(), dest);
+            }
+            else if (value instanceof Negative negative) {
+                lower(negative.value(), dest);
+                emit(NEGATE, dest, dest, 0, 0);
+            }
+            else if (value instanceof BooleanNegate negate) {
+                lower(negate.value(), dest);
+                emit(NOT, dest, dest, 0, 0);
+            }
+            else if (value instanceof Calculation calculation) {
+                lower(calculation.argA(), dest);
+                lower(calculation.argB(), dest + 1);
+
+                Integer opcode = OPERATOR_OPCODES.get(calculation.operator());
+
+                if (opcode != null) {
+                    emit(opcode, dest, dest, dest + 1, 0);
+                }
+                else {
+                    this.operators.add(calculation.operator());
+                    emit(OPERATOR, dest, dest, dest + 1, this.operators.size() - 1);
+                }
+            }
+            else if (value instanceof Ternary ternary) {
+                lower(ternary.condition(), dest);
+
+                int conditionJump = emit(JUMP_IF_ZERO, 0, dest, -1, 0);
+
+                lower(ternary.trueValue(), dest);
+
+                int endJump = emit(JUMP, 0, -1, 0, 0);
+
+                this.code.set(conditionJump + 3, this.code.size());
+                lower(ternary.falseValue(), dest);
+                this.code.set(endJump + 2, this.code.size());
+            }
+            else if (value instanceof CompoundValue compound) {
+                for (MathValue subValue : compound.subValues()) {
+                    lower(subValue, dest);
+                }
+            }
+            else if (value instanceof VariableAssignment assignment) {
+                lower(assignment.value(), dest);
+                emit(ASSIGN, dest, dest, variableIndex(assignment.variable()), 0);
+            }
+            else if (value instanceof Variable variable) {
+                emit(VARIABLE, dest, variableIndex(variable), 0, 0);
+            }
+            else if (value instanceof MathFunction function && FUNCTION_OPCODES.containsKey(function.getClass()) &&
+                     function.getArgs().length >= FUNCTION_OPCODES.get(function.getClass()).evaluationOrder().length) {
+                FunctionOpcode opcode = FUNCTION_OPCODES.get(function.getClass());
+                MathValue[] args = function.getArgs();
+                int[] order = opcode.evaluationOrder();
+
+                for (int i = 0; i < order.length; i++) {
+                    lower(args[order[i]], dest + i);
+                }
+
+                emit(opcode.opcode(), dest, dest, dest + 1, dest + 2);
+            }
+            else {
+                this.calls.add(value);
+                emit(CALL, dest, this.calls.size() - 1, 0, 0);
+            }
+        }
+
+        private int variableIndex(Variable variable) {
+            int index = this.variableIndices.getInt(variable);
+
+            if (index == -1) {
+                index = this.variables.size();
+
+                this.variables.add(variable);
+                this.variableIndices.put(variable, index);
+            }
+
+            return index;
+        }
+
+        /**
+         * Append an instruction to the code
+         *
+         * @return The index of the instruction in the code
+         */
+        private int emit(int opcode, int dest, int operandA, int operandB, int operandC) {
+            int index = this.code.size();
+
+            this.code.add(opcode);
+            this.code.add(dest);
+            this.code.add(operandA);
+            this.code.add(operandB);
+            this.code.add(operandC);
+
+            return index;
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package software.bernie.geckolib.loading.math.compile;
+
+import it.unimi.dsi.fastutil.objects.*;
+import net.minecraft.Util;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import software.bernie.geckolib.GeckoLibConstants;
+import software.bernie.geckolib.animatable.processing.AnimationState;
+import software.bernie.geckolib.loading.math.MathValue;
+import software.bernie.geckolib.loading.math.Operator;
+import software.bernie.geckolib.loading.math.function.MathFunction;
+import software.bernie.geckolib.loading.math.function.generic.*;
+import software.bernie.geckolib.loading.math.function.limit.ClampFunction;
+import software.bernie.geckolib.loading.math.function.limit.MaxFunction;
+import software.bernie.geckolib.loading.math.function.limit.MinFunction;
+import software.bernie.geckolib.loading.math.function.misc.ToDegFunction;
+import software.bernie.geckolib.loading.math.function.misc.ToRadFunction;
+import software.bernie.geckolib.loading.math.function.round.*;
+import software.bernie.geckolib.loading.math.value.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Map;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Optional compilation backend for {@link MathValue MathValues}, converting an interpreted expression tree into a straight-line JVM method
+ * <p>
+ * Each compiled expression is defined as a {@link MethodHandles.Lookup#defineHiddenClass hidden class} extending {@link CompiledMathValue},
+ * removing the per-node virtual dispatch and {@link Operator.Operation} indirection of the interpreted tree, and allowing the JIT to inline the whole expression.<br>
+ * Hidden classes are not strongly linked to their defining loader, so compiled expressions are unloaded along with the animations that use them
+ * <p>
+ * Constructs that can't be compiled (such as custom {@link MathFunction MathFunctions} or random functions) are left as interpreted sub-trees called from the compiled method,
+ * and any expression that fails to compile entirely is returned as-is
+ * <p>
+ * Disabled by default. As expressions are compiled when animations are loaded, enabling or disabling compilation only takes effect after the next resource reload
+ */
+public final class MolangCompiler {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final String CLASS_NAME = Type.getInternalName(MolangCompiler.class).replace("MolangCompiler", "GeneratedMathValue");
+    private static final String BASE_CLASS = Type.getInternalName(CompiledMathValue.class);
+    private static final String INTRINSICS = Type.getInternalName(CompiledMathValue.Intrinsics.class);
+    private static final String GET_DESCRIPTOR = Type.getMethodDescriptor(Type.DOUBLE_TYPE, Type.getType(AnimationState.class));
+    private static final Map<Operator, String> OPERATOR_INTRINSICS = Util.make(new Reference2ObjectOpenHashMap<>(11), map -> {
+        map.put(Operator.DIV, "divide");
+        map.put(Operator.MOD, "modulo");
+        map.put(Operator.POW, "pow");
+        map.put(Operator.AND, "and");
+        map.put(Operator.OR, "or");
+        map.put(Operator.LT, "lessThan");
+        map.put(Operator.LTE, "lessThanOrEqual");
+        map.put(Operator.GT, "greaterThan");
+        map.put(Operator.GTE, "greaterThanOrEqual");
+        map.put(Operator.EQUAL, "equal");
+        map.put(Operator.NOT_EQUAL, "notEqual");
+    });
+    private static final Map<Class<? extends MathFunction>, FunctionIntrinsic> FUNCTION_INTRINSICS = Util.make(new Reference2ObjectOpenHashMap<>(24), map -> {
+        map.put(AbsFunction.class, FunctionIntrinsic.of("abs", 0));
+        map.put(ACosFunction.class, FunctionIntrinsic.of("acos", 0));
+        map.put(ASinFunction.class, FunctionIntrinsic.of("asin", 0));
+        map.put(ATanFunction.class, FunctionIntrinsic.of("atan", 0));
+        map.put(ATan2Function.class, FunctionIntrinsic.of("atan2", 0, 1));
+        map.put(CosFunction.class, FunctionIntrinsic.of("cos", 0));
+        map.put(SinFunction.class, FunctionIntrinsic.of("sin", 0));
+        map.put(ExpFunction.class, FunctionIntrinsic.of("exp", 0));
+        map.put(LogFunction.class, FunctionIntrinsic.of("ln", 0));
+        map.put(ModFunction.class, FunctionIntrinsic.of("mod", 0, 1));
+        map.put(PowFunction.class, FunctionIntrinsic.of("pow", 0, 1));
+        map.put(SqrtFunction.class, FunctionIntrinsic.of("sqrt", 0));
+        map.put(ClampFunction.class, FunctionIntrinsic.of("clamp", 0, 1, 2));
+        map.put(MaxFunction.class, FunctionIntrinsic.of("max", 0, 1));
+        map.put(MinFunction.class, FunctionIntrinsic.of("min", 0, 1));
+        map.put(ToDegFunction.class, FunctionIntrinsic.of("toDeg", 0));
+        map.put(ToRadFunction.class, FunctionIntrinsic.of("toRad", 0));
+        map.put(CeilFunction.class, FunctionIntrinsic.of("ceil", 0));
+        map.put(FloorFunction.class, FunctionIntrinsic.of("floor", 0));
+        map.put(RoundFunction.class, FunctionIntrinsic.of("round", 0));
+        map.put(TruncateFunction.class, FunctionIntrinsic.of("trunc", 0));
+        map.put(HermiteBlendFunction.class, FunctionIntrinsic.of("hermiteBlend", 0));
+        map.put(LerpFunction.class, FunctionIntrinsic.of("lerp", 2, 0, 1));
+        map.put(LerpRotFunction.class, FunctionIntrinsic.of("lerpRotate", 2, 0, 1));
+    });
+
+    private static boolean enabled = false;
+
+    private MolangCompiler() {}
+
+    /**
+     * Enable or disable compilation of Molang expressions when animations are loaded
+     * <p>
+     * Only takes effect for animations loaded after this is called
+     */
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Compile the given {@link MathValue} to bytecode, if it would benefit from compilation
+     * <p>
+     * Immutable values and single {@link Variable Variables} are returned as-is, as are any values that fail to compile
+     *
+     * @param value The interpreted value to compile
+     * @return A {@link CompiledMathValue} equivalent to the input value, or the input value if not compiled
+     */
+    public static MathValue compile(MathValue value) {
+        if (!value.isMutable() || value instanceof Variable || value instanceof CompiledMathValue)
+            return value;
+
+        try {
+            return new ClassGenerator(value).define();
+        }
+        catch (VirtualMachineError error) {
+            throw error;
+        }
+        catch (Throwable ex) {
+            GeckoLibConstants.LOGGER.debug("Unable to compile Molang expression, falling back to interpreted evaluation: '{}'", value, ex);
+
+            return value;
+        }
+    }
+
+    /**
+     * A static method in {@link CompiledMathValue.Intrinsics} acting as the compiled equivalent of a {@link MathFunction}
+     *
+     * @param method The name of the static method
+     * @param descriptor The descriptor of the static method
+     * @param evaluationOrder The indices of the function's {@link MathFunction#getArgs() args}, in the order the function evaluates them and the method takes them
+     */
+    private record FunctionIntrinsic(String method, String descriptor, int[] evaluationOrder) {
+        private static FunctionIntrinsic of(String method, int... evaluationOrder) {
+            return new FunctionIntrinsic(method, "(" + "D".repeat(evaluationOrder.length) + ")D", evaluationOrder);
+        }
+    }
+
+    /**
+     * Single-use generator for one compiled expression class
+     * <p>
+     * Each object the expression needs at runtime (such as {@link Variable Variables} or interpreted sub-trees) is stored in a final field of the generated class
+     */
+    private static final class ClassGenerator {
+        private final MathValue source;
+        private final Reference2IntMap<Object> referenceIndices = new Reference2IntOpenHashMap<>();
+        private final List<Object> references = new ObjectArrayList<>();
+        private final List<Class<?>> referenceTypes = new ObjectArrayList<>();
+        private MethodVisitor method;
+
+        private ClassGenerator(MathValue source) {
+            this.source = source;
+
+            this.referenceIndices.defaultReturnValue(-1);
+        }
+
+        private MathValue define() throws Throwable {
+            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+
+            writer.visit(V17, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, CLASS_NAME, null, BASE_CLASS, null);
+
+            this.method = writer.visitMethod(ACC_PUBLIC | ACC_FINAL, "get", GET_DESCRIPTOR, null, null);
+
+            this.method.visitCode();
+            emit(this.source);
+            this.method.visitInsn(DRETURN);
+            this.method.visitMaxs(0, 0);
+            this.method.visitEnd();
+
+            for (int i = 0; i < this.references.size(); i++) {
+                writer.visitField(ACC_PRIVATE | ACC_FINAL, "ref" + i, Type.getDescriptor(this.referenceTypes.get(i)), null, null).visitEnd();
+            }
+
+            writeConstructor(writer);
+            writer.visitEnd();
+
+            MethodHandles.Lookup lookup = LOOKUP.defineHiddenClass(writer.toByteArray(), true);
+
+            return (MathValue)lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class, MathValue.class, Object[].class))
+                    .invoke(this.source, this.references.toArray());
+        }
+
+        private void writeConstructor(ClassWriter writer) {
+            MethodVisitor constructor = writer.visitMethod(ACC_PUBLIC, "<init>", Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(MathValue.class), Type.getType(Object[].class)), null, null);
+
+            constructor.visitCode();
+            constructor.visitVarInsn(ALOAD, 0);
+            constructor.visitVarInsn(ALOAD, 1);
+            constructor.visitMethodInsn(INVOKESPECIAL, BASE_CLASS, "<init>", Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(MathValue.class)), false);
+
+            for (int i = 0; i < this.references.size(); i++) {
+                String type = Type.getInternalName(this.referenceTypes.get(i));
+
+                constructor.visitVarInsn(ALOAD, 0);
+                constructor.visitVarInsn(ALOAD, 2);
+                constructor.visitLdcInsn(i);
+                constructor.visitInsn(AALOAD);
+                constructor.visitTypeInsn(CHECKCAST, type);
+                constructor.visitFieldInsn(PUTFIELD, CLASS_NAME, "ref" + i, "L" + type + ";");
+            }
+
+            constructor.visitInsn(RETURN);
+            constructor.visitMaxs(0, 0);
+            constructor.visitEnd();
+        }
+
+        /**
+         * Emit the instructions to compute the given value, leaving its result as a double on the stack
+         */
+        private void emit(MathValue value) {
+            if (!value.isMutable()) {
+                emitConstant(value.get(null));
+            }
+            else if (value instanceof Group group) {
+                emit(group.contents());
+            }
+            else if (value instanceof Negative negative) {
+                emit(negative.value());
+                this.method.visitInsn(DNEG);
+            }
+            else if (value instanceof BooleanNegate negate) {
+                emit(negate.value());
+                this.method.visitMethodInsn(INVOKESTATIC, INTRINSICS, "booleanNegate", "(D)D", false);
+            }
+            else if (value instanceof Calculation calculation) {
+                emitCalculation(calculation);
+            }
+            else if (value instanceof Ternary ternary) {
+                Label falseLabel = new Label();
+                Label endLabel = new Label();
+
+                emit(ternary.condition());
+                this.method.visitInsn(DCONST_0);
+                this.method.visitInsn(DCMPL);
+                this.method.visitJumpInsn(IFEQ, falseLabel);
+                emit(ternary.trueValue());
+                this.method.visitJumpInsn(GOTO, endLabel);
+                this.method.visitLabel(falseLabel);
+                emit(ternary.falseValue());
+                this.method.visitLabel(endLabel);
+            }
+            else if (value instanceof CompoundValue compound) {
+                MathValue[] subValues = compound.subValues();
+
+                for (int i = 0; i < subValues.length - 1; i++) {
+                    emit(subValues[i]);
+                    this.method.visitInsn(POP2);
+                }
+
+                emit(subValues[subValues.length - 1]);
+            }
+            else if (value instanceof VariableAssignment assignment) {
+                emitReference(assignment.variable(), Variable.class);
+                emit(assignment.value());
+                this.method.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(Variable.class), "set", "(D)V", false);
+                this.method.visitInsn(DCONST_0);
+            }
+            else if (value instanceof Variable variable) {
+                emitReference(variable, Variable.class);
+                this.method.visitVarInsn(ALOAD, 1);
+                this.method.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(Variable.class), "get", GET_DESCRIPTOR, false);
+            }
+            else if (value instanceof MathFunction function && FUNCTION_INTRINSICS.containsKey(function.getClass())) {
+                emitFunction(function, FUNCTION_INTRINSICS.get(function.getClass()));
+            }
+            else {
+                emitInterpreted(value);
+            }
+        }
+
+        private void emitCalculation(Calculation calculation) {
+            Operator operator = calculation.operator();
+            int opcode = operator == Operator.ADD ? DADD : operator == Operator.SUB ? DSUB : operator == Operator.MUL ? DMUL : -1;
+
+            if (opcode != -1) {
+                emit(calculation.argA());
+                emit(calculation.argB());
+                this.method.visitInsn(opcode);
+
+                return;
+            }
+
+            String intrinsic = OPERATOR_INTRINSICS.get(operator);
+
+            if (intrinsic != null) {
+                emit(calculation.argA());
+                emit(calculation.argB());
+                this.method.visitMethodInsn(INVOKESTATIC, INTRINSICS, intrinsic, "(DD)D", false);
+
+                return;
+            }
+
+            emitReference(operator, Operator.class);
+            emit(calculation.argA());
+            emit(calculation.argB());
+            this.method.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(Operator.class), "compute", "(DD)D", false);
+        }
+
+        private void emitFunction(MathFunction function, FunctionIntrinsic intrinsic) {
+            MathValue[] args = function.getArgs();
+
+            if (args.length < intrinsic.evaluationOrder().length) {
+                emitInterpreted(function);
+
+                return;
+            }
+
+            for (int argIndex : intrinsic.evaluationOrder()) {
+                emit(args[argIndex]);
+            }
+
+            this.method.visitMethodInsn(INVOKESTATIC, INTRINSICS, intrinsic.method(), intrinsic.descriptor(), false);
+        }
+
+        /**
+         * Emit a call to the interpreted {@link MathValue#get} of a sub-tree that can't be compiled
+         */
+        private void emitInterpreted(MathValue value) {
+            emitReference(value, MathValue.class);
+            this.method.visitVarInsn(ALOAD, 1);
+            this.method.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(MathValue.class), "get", GET_DESCRIPTOR, true);
+        }
+
+        private void emitConstant(double value) {
+            if (Double.doubleToRawLongBits(value) == 0L) {
+                this.method.visitInsn(DCONST_0);
+            }
+            else if (value == 1) {
+                this.method.visitInsn(DCONST_1);
+            }
+            else {
+                this.method.visitLdcInsn(value);
+            }
+        }
+
+        /**
+         * Emit a load of the field holding the given object, adding it to the class if not already present
+         */
+        private void emitReference(Object reference, Class<?> type) {
+            int index = this.referenceIndices.getInt(reference);
+
+            if (index == -1) {
+                index = this.references.size();
+
+                this.referenceIndices.put(reference, index);
+                this.references.add(reference);
+                this.referenceTypes.add(type);
+            }
+
+            this.method.visitVarInsn(ALOAD, 0);
+            this.method.visitFieldInsn(GETFIELD, CLASS_NAME, "ref" + index, Type.getDescriptor(this.referenceTypes.get(index)));
+        }
+    }
+}
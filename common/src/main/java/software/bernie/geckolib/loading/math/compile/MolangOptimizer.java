@@ -0,0 +1,332 @@
+package software.bernie.geckolib.loading.math.compile;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.Util;
+import software.bernie.geckolib.loading.math.MathParser;
+import software.bernie.geckolib.loading.math.MathValue;
+import software.bernie.geckolib.loading.math.Operator;
+import software.bernie.geckolib.loading.math.function.MathFunction;
+import software.bernie.geckolib.loading.math.function.generic.*;
+import software.bernie.geckolib.loading.math.function.limit.ClampFunction;
+import software.bernie.geckolib.loading.math.function.limit.MaxFunction;
+import software.bernie.geckolib.loading.math.function.limit.MinFunction;
+import software.bernie.geckolib.loading.math.function.misc.PiFunction;
+import software.bernie.geckolib.loading.math.function.misc.ToDegFunction;
+import software.bernie.geckolib.loading.math.function.misc.ToRadFunction;
+import software.bernie.geckolib.loading.math.function.round.*;
+import software.bernie.geckolib.loading.math.value.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Load-time optimisation pass for {@link MathValue} trees, run on keyframe values after they are parsed
+ * <p>
+ * Applies the following, so that every subsequent evaluation walks a smaller tree:
+ * <ul>
+ *     <li>Folds immutable sub-trees (including {@link MathFunction MathFunctions} with constant arguments) into {@link Constant Constants}</li>
+ *     <li>Removes redundant {@link Group Groups}, double {@link Negative negations}, ternaries with constant conditions, and side effect-free statements in {@link CompoundValue CompoundValues}</li>
+ *     <li>Applies identity and annihilator rules for the built-in {@link Operator Operators} (E.G. {@code x * 1}, {@code x + 0}, {@code x && 0})</li>
+ *     <li>Deduplicates structurally identical side effect-free sub-expressions across all values optimised together, such as the X, Y, and Z values of a keyframe</li>
+ * </ul>
+ * Rules that don't hold for {@code NaN} or infinite operands (such as {@code x * 0}) are not applied, though additive identities may still differ from unoptimised evaluation in the sign of a zero result.<br>
+ * Sub-trees that have side effects (such as {@link VariableAssignment VariableAssignments} or random functions) are never removed
+ * <p>
+ * Enabled by default. As values are optimised when animations are loaded, enabling or disabling the optimiser only takes effect after the next resource reload
+ */
+public final class MolangOptimizer {
+    private static final Set<Class<? extends MathFunction>> DETERMINISTIC_FUNCTIONS = Util.make(new ReferenceOpenHashSet<>(25), set -> set.addAll(List.of(
+            AbsFunction.class, ACosFunction.class, ASinFunction.class, ATanFunction.class, ATan2Function.class, CosFunction.class, SinFunction.class,
+            ExpFunction.class, LogFunction.class, ModFunction.class, PowFunction.class, SqrtFunction.class, ClampFunction.class, MaxFunction.class,
+            MinFunction.class, PiFunction.class, ToDegFunction.class, ToRadFunction.class, CeilFunction.class, FloorFunction.class, RoundFunction.class,
+            TruncateFunction.class, HermiteBlendFunction.class, LerpFunction.class, LerpRotFunction.class)));
+
+    private static boolean enabled = true;
+
+    private MolangOptimizer() {}
+
+    /**
+     * Enable or disable optimisation of Molang expressions when animations are loaded
+     * <p>
+     * Only takes effect for animations loaded after this is called
+     */
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Optimise the given {@link MathValue MathValues}, sharing structurally identical sub-expressions between them
+     *
+     * @param values The values to optimise
+     * @return A new array containing the optimised equivalent of each value, in the same order
+     */
+    public static MathValue[] optimize(MathValue... values) {
+        Optimizer optimizer = new Optimizer();
+        MathValue[] optimized = new MathValue[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            optimized[i] = optimizer.optimize(values[i]);
+        }
+
+        return optimized;
+    }
+
+    /**
+     * @return Whether the given value (and all of its sub-values) is known to be free of side effects, and so can be removed or shared without changing the result of evaluation
+     */
+    public static boolean isSideEffectFree(MathValue value) {
+        if (value instanceof Constant || value instanceof Variable)
+            return true;
+
+        if (value instanceof CompiledMathValue compiled)
+            return isSideEffectFree(compiled.getSource());
+
+        if (value instanceof Group group)
+            return isSideEffectFree(group.contents());
+
+        if (value instanceof Negative negative)
+            return isSideEffectFree(negative.value());
+
+        if (value instanceof BooleanNegate negate)
+            return isSideEffectFree(negate.value());
+
+        if (value instanceof Calculation calculation)
+            return isSideEffectFree(calculation.argA()) && isSideEffectFree(calculation.argB());
+
+        if (value instanceof Ternary ternary)
+            return isSideEffectFree(ternary.condition()) && isSideEffectFree(ternary.trueValue()) && isSideEffectFree(ternary.falseValue());
+
+        if (value instanceof MathFunction function && DETERMINISTIC_FUNCTIONS.contains(function.getClass())) {
+            for (MathValue arg : function.getArgs()) {
+                if (!isSideEffectFree(arg))
+                    return false;
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Single-use optimiser, holding the canonical instance of each sub-expression it has built
+     */
+    private static final class Optimizer {
+        private final Map<String, MathValue> canonicalValues = new Object2ObjectOpenHashMap<>();
+        private final Reference2IntOpenHashMap<MathValue> valueIds = new Reference2IntOpenHashMap<>();
+
+        private Optimizer() {
+            this.valueIds.defaultReturnValue(-1);
+        }
+
+        private MathValue optimize(MathValue value) {
+            if (!value.isMutable())
+                return canonical("k" + Double.doubleToRawLongBits(value.get(null)), value instanceof Constant ? value : new Constant(value.get(null)));
+
+            if (value instanceof Group group)
+                return optimize(group.contents());
+
+            if (value instanceof Negative negative)
+                return negate(optimize(negative.value()));
+
+            if (value instanceof BooleanNegate negate) {
+                MathValue contents = optimize(negate.value());
+
+                return canonical("!" + idOf(contents), contents == negate.value() ? negate : new BooleanNegate(contents));
+            }
+
+            if (value instanceof Calculation calculation)
+                return optimizeCalculation(calculation);
+
+            if (value instanceof Ternary ternary)
+                return optimizeTernary(ternary);
+
+            if (value instanceof CompoundValue compound)
+                return optimizeCompound(compound);
+
+            if (value instanceof VariableAssignment assignment) {
+                MathValue assignedValue = optimize(assignment.value());
+
+                return assignedValue == assignment.value() ? assignment : new VariableAssignment(assignment.variable(), assignedValue);
+            }
+
+            if (value instanceof MathFunction function && DETERMINISTIC_FUNCTIONS.contains(function.getClass()))
+                return optimizeFunction(function);
+
+            return value;
+        }
+
+        private MathValue negate(MathValue value) {
+            if (value instanceof Constant constant)
+                return constant(-constant.value());
+
+            if (value instanceof Negative negative)
+                return negative.value();
+
+            return canonical("-" + idOf(value), new Negative(value));
+        }
+
+        private MathValue optimizeCalculation(Calculation calculation) {
+            Operator operator = calculation.operator();
+            MathValue argA = optimize(calculation.argA());
+            MathValue argB = optimize(calculation.argB());
+
+            if (argA instanceof Constant constantA && argB instanceof Constant constantB)
+                return constant(operator.compute(constantA.value(), constantB.value()));
+
+            MathValue simplified = simplifyCalculation(operator, argA, argB);
+
+            if (simplified != null)
+                return simplified;
+
+            return canonical("c" + operator.symbol() + "(" + idOf(argA) + "," + idOf(argB) + ")",
+                             argA == calculation.argA() && argB == calculation.argB() ? calculation : new Calculation(operator, argA, argB));
+        }
+
+        /**
+         * Apply the identity and annihilator rules for the built-in {@link Operator Operators}
+         *
+         * @return The simplified value, or null if no rule applies
+         */
+        private MathValue simplifyCalculation(Operator operator, MathValue argA, MathValue argB) {
+            if (operator == Operator.ADD) {
+                if (isConstant(argA, 0))
+                    return argB;
+
+                if (isConstant(argB, 0))
+                    return argA;
+            }
+            else if (operator == Operator.SUB) {
+                if (isConstant(argB, 0))
+                    return argA;
+
+                if (isConstant(argA, 0))
+                    return negate(argB);
+            }
+            else if (operator == Operator.MUL) {
+                if (isConstant(argA, 1))
+                    return argB;
+
+                if (isConstant(argB, 1))
+                    return argA;
+            }
+            else if (operator == Operator.DIV) {
+                // Division by zero returns the dividend in GeckoLib
+                if (isConstant(argB, 1) || isConstant(argB, 0))
+                    return argA;
+            }
+            else if (operator == Operator.MOD) {
+                if (isConstant(argB, 0))
+                    return argA;
+            }
+            else if (operator == Operator.POW) {
+                if (isConstant(argB, 1))
+                    return argA;
+
+                if (isConstant(argB, 0) && isSideEffectFree(argA))
+                    return constant(1);
+            }
+            else if (operator == Operator.AND) {
+                if ((isConstant(argA, 0) && isSideEffectFree(argB)) || (isConstant(argB, 0) && isSideEffectFree(argA)))
+                    return constant(0);
+            }
+            else if (operator == Operator.OR) {
+                if ((argA instanceof Constant constant && constant.value() != 0 && isSideEffectFree(argB)) ||
+                    (argB instanceof Constant constant2 && constant2.value() != 0 && isSideEffectFree(argA)))
+                    return constant(1);
+            }
+
+            return null;
+        }
+
+        private MathValue optimizeTernary(Ternary ternary) {
+            MathValue condition = optimize(ternary.condition());
+
+            if (condition instanceof Constant constant)
+                return optimize(constant.value() != 0 ? ternary.trueValue() : ternary.falseValue());
+
+            MathValue trueValue = optimize(ternary.trueValue());
+            MathValue falseValue = optimize(ternary.falseValue());
+
+            if (trueValue == falseValue && isSideEffectFree(condition))
+                return trueValue;
+
+            return canonical("t(" + idOf(condition) + "," + idOf(trueValue) + "," + idOf(falseValue) + ")",
+                             condition == ternary.condition() && trueValue == ternary.trueValue() && falseValue == ternary.falseValue() ? ternary : new Ternary(condition, trueValue, falseValue));
+        }
+
+        private MathValue optimizeCompound(CompoundValue compound) {
+            MathValue[] subValues = compound.subValues();
+            List<MathValue> retained = new ObjectArrayList<>(subValues.length);
+
+            for (int i = 0; i < subValues.length; i++) {
+                MathValue subValue = optimize(subValues[i]);
+
+                // Only the last statement contributes to the result, so earlier ones are only needed for their side effects
+                if (i == subValues.length - 1 || !isSideEffectFree(subValue))
+                    retained.add(subValue);
+            }
+
+            if (retained.size() == 1)
+                return retained.getFirst();
+
+            return new CompoundValue(retained.toArray(new MathValue[0]));
+        }
+
+        private MathValue optimizeFunction(MathFunction function) {
+            MathValue[] args = function.getArgs();
+            MathValue[] optimizedArgs = new MathValue[args.length];
+            StringBuilder key = new StringBuilder("f").append(function.getName()).append('(');
+            boolean changed = false;
+
+            for (int i = 0; i < args.length; i++) {
+                optimizedArgs[i] = optimize(args[i]);
+                changed |= optimizedArgs[i] != args[i];
+
+                key.append(idOf(optimizedArgs[i])).append(',');
+            }
+
+            MathValue rebuilt = changed ? MathParser.buildFunction(function.getName(), optimizedArgs) : function;
+
+            // The function may have been re-registered under the same name, in which case it's left as it is
+            if (rebuilt == null || rebuilt.getClass() != function.getClass())
+                return function;
+
+            return canonical(key.append(')').toString(), rebuilt);
+        }
+
+        private MathValue constant(double value) {
+            return canonical("k" + Double.doubleToRawLongBits(value), new Constant(value));
+        }
+
+        private MathValue canonical(String key, MathValue value) {
+            MathValue existing = this.canonicalValues.putIfAbsent(key, value);
+
+            return existing != null ? existing : value;
+        }
+
+        private int idOf(MathValue value) {
+            int id = this.valueIds.getInt(value);
+
+            if (id == -1) {
+                id = this.valueIds.size();
+
+                this.valueIds.put(value, id);
+            }
+
+            return id;
+        }
+
+        private static boolean isConstant(MathValue value, double constant) {
+            return value instanceof Constant constantValue && constantValue.value() == constant;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package software.bernie.geckolib.loading.math.value;
 import software.bernie.geckolib.GeckoLibConstants;
 import software.bernie.geckolib.animatable.processing.AnimationState;
 import software.bernie.geckolib.loading.math.MathValue;
+import software.bernie.geckolib.loading.math.MolangQueries;
 
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -28,7 +29,12 @@ public record Variable(String name, AtomicReference<ToDoubleFunction<AnimationSt
     @Override
     public double get(AnimationState<?> animationState) {
         try {
-            return this.value.get().applyAsDouble(animationState);
+            final ToDoubleFunction<AnimationState<?>> function = this.value.get();
+
+            if (function instanceof MolangQueries.ActorValue actorValue)
+                return animationState.getActorVariableValue(actorValue.slot());
+
+            return function.applyAsDouble(animationState);
         }
         catch (Exception ex) {
             GeckoLibConstants.LOGGER.error("Attempted to use Molang variable for incompatible animatable type (" + this.name + "). An animation json needs to be fixed", ex.getMessage());
@@ -1,5 +1,6 @@
 package software.bernie.geckolib.model;
 
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.renderer.entity.state.EntityRenderState;
@@ -12,6 +13,7 @@ import software.bernie.geckolib.animatable.manager.AnimatableManager;
 import software.bernie.geckolib.animatable.processing.AnimationProcessor;
 import software.bernie.geckolib.animatable.processing.AnimationState;
 import software.bernie.geckolib.animation.Animation;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
 import software.bernie.geckolib.cache.GeckoLibResources;
 import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.cache.object.GeoBone;
@@ -35,6 +37,10 @@ import java.util.function.ToDoubleFunction;
 public abstract class GeoModel<T extends GeoAnimatable> {
 	private final AnimationProcessor<T> processor = new AnimationProcessor<>(this);
 
+	private final Map<ResourceLocation, Optional<BakedGeoModel>> resolvedModels = new Object2ObjectOpenHashMap<>();
+	private final Map<ResourceLocation, Map<String, Optional<Animation>>> resolvedAnimations = new Object2ObjectOpenHashMap<>();
+	private int resolutionGeneration = -1;
+
 	private BakedGeoModel currentModel = null;
 	private double animationTicks;
 	private double lastGameTickTime;
@@ -122,8 +128,41 @@ public abstract class GeoModel<T extends GeoAnimatable> {
 
 	/**
 	 * Get the baked geo model object used for rendering from the given resource path
+	 * <p>
+	 * The resolved model (or lack thereof) for each resource path is cached until the next resource reload
 	 */
 	public BakedGeoModel getBakedModel(ResourceLocation location) {
+		checkResolutionGeneration();
+
+		Optional<BakedGeoModel> resolvedModel = this.resolvedModels.get(location);
+
+		if (resolvedModel == null)
+			this.resolvedModels.put(location, resolvedModel = Optional.ofNullable(resolveBakedModel(location)));
+
+		setActiveModel(resolvedModel.orElseThrow(() -> new IllegalArgumentException("Unable to find model file: " + location)));
+
+		return this.currentModel;
+	}
+
+	/**
+	 * Set the {@link BakedGeoModel} this model's {@link AnimationProcessor} animates, if it isn't already active
+	 * <p>
+	 * This is normally handled automatically by {@link #getBakedModel}, but can be used to animate a baked model not loaded from resources
+	 */
+	public void setActiveModel(BakedGeoModel model) {
+		if (model != this.currentModel) {
+			this.processor.setActiveModel(model);
+			this.currentModel = model;
+		}
+	}
+
+	/**
+	 * Look up the baked geo model for the given resource path, falling back to the path with its prefix and suffix stripped
+	 *
+	 * @return The BakedGeoModel, or null if none match
+	 */
+	@Nullable
+	protected BakedGeoModel resolveBakedModel(ResourceLocation location) {
 		BakedGeoModel model = GeckoLibResources.getBakedModels().get(location);
 
 		if (model == null) {
@@ -133,23 +172,17 @@ public abstract class GeoModel<T extends GeoAnimatable> {
 				GeckoLibConstants.LOGGER.debug("Unnecessary prefix or suffix found in model resource path: {} ({}). Remove this from your getModelResource",
 											   location.getPath(), location.getPath().replace(strippedPath.getPath(), ""));
 
-				model = GeckoLibResources.getBakedModels().get(location = strippedPath);
+				model = GeckoLibResources.getBakedModels().get(strippedPath);
 			}
-
-			if (model == null)
-				throw new IllegalArgumentException("Unable to find model file: " + location);
-		}
-
-		if (model != this.currentModel) {
-			this.processor.setActiveModel(model);
-			this.currentModel = model;
 		}
 
-		return this.currentModel;
+		return model;
 	}
 
 	/**
 	 * Gets the loaded {@link Animation} for the given animation {@code name}, if it exists
+	 * <p>
+	 * The resolved animation (or lack thereof) for each {@link #getAnimationResource animation resource} and name is cached until the next resource reload
 	 *
 	 * @param animatable The {@link GeoAnimatable} for the upcoming render pass
 	 * @param name The name of the animation to retrieve
@@ -157,14 +190,39 @@ public abstract class GeoModel<T extends GeoAnimatable> {
 	 */
 	@Nullable
 	public Animation getAnimation(T animatable, String name) throws RuntimeException {
+		checkResolutionGeneration();
+
 		ResourceLocation location = getAnimationResource(animatable);
+		Map<String, Optional<Animation>> animations = this.resolvedAnimations.computeIfAbsent(location, key -> new Object2ObjectOpenHashMap<>());
+		Optional<Animation> animation = animations.get(name);
+
+		if (animation == null)
+			animations.put(name, animation = Optional.ofNullable(resolveAnimation(animatable, location, name)));
+
+		return animation.orElse(null);
+	}
+
+	/**
+	 * Look up the {@link Animation} for the given animation {@code name}, searching the given animation resource followed by each of the
+	 * {@link #getAnimationResourceFallbacks fallback resources} in order
+	 *
+	 * @param animatable The {@link GeoAnimatable} for the upcoming render pass
+	 * @param location The primary animation resource to search
+	 * @param name The name of the animation to retrieve
+	 * @return The Animation instance for the provided {@code name}, or null if none match
+	 * @throws IllegalArgumentException If none of the animation resources exist
+	 */
+	@Nullable
+	protected Animation resolveAnimation(T animatable, ResourceLocation location, String name) throws RuntimeException {
 		ResourceLocation[] fallbackLocations = getAnimationResourceFallbacks(animatable);
 		Map<ResourceLocation, BakedAnimations> animations = GeckoLibResources.getBakedAnimations();
-		int fallbackIndex = -1;
-		BakedAnimations bakedAnimations;
+		boolean foundAnimationFile = false;
+
+		for (int fallbackIndex = -1; fallbackIndex < fallbackLocations.length; fallbackIndex++) {
+			if (fallbackIndex >= 0)
+				location = fallbackLocations[fallbackIndex];
 
-		do {
-			bakedAnimations = animations.get(location);
+			BakedAnimations bakedAnimations = animations.get(location);
 
 			if (bakedAnimations == null) {
 				ResourceLocation strippedPath = GeckoLibResources.stripPrefixAndSuffix(location);
@@ -182,13 +240,12 @@ public abstract class GeoModel<T extends GeoAnimatable> {
 
 				if (animation != null)
 					return animation;
-			}
 
-			location = fallbackLocations[++fallbackIndex];
+				foundAnimationFile = true;
+			}
 		}
-		while (fallbackIndex < fallbackLocations.length - 2);
 
-		if (bakedAnimations == null)
+		if (!foundAnimationFile)
 			throw new IllegalArgumentException("Unable to find animation file '" + location + "' for animatable '" + animatable.getClass().getName() + "'");
 
 		GeckoLibConstants.LOGGER.error("Unable to find animation: '{}' in animation file '{}' for animatable '{}'", name, location, animatable.getClass().getName());
@@ -196,6 +253,19 @@ public abstract class GeoModel<T extends GeoAnimatable> {
 		return null;
 	}
 
+	/**
+	 * Discard the cached model and animation resolutions if resources have been reloaded since they were resolved
+	 */
+	private void checkResolutionGeneration() {
+		int generation = GeckoLibResources.getReloadGeneration();
+
+		if (generation != this.resolutionGeneration) {
+			this.resolvedModels.clear();
+			this.resolvedAnimations.clear();
+			this.resolutionGeneration = generation;
+		}
+	}
+
 	/**
 	 * Perform the necessary preparations for the upcoming render pass
 	 */
@@ -242,8 +312,14 @@ public abstract class GeoModel<T extends GeoAnimatable> {
 	public void handleAnimations(AnimationState<T> animationState) {
 		AnimationProcessor<T> processor = getAnimationProcessor();
 
-		if (!processor.getRegisteredBones().isEmpty())
-			processor.tickAnimation(animationState);
+		if (!processor.getRegisteredBones().isEmpty()) {
+			BonePoseBuffer pose = animationState.manager().getPoseBuffer();
+
+			if (!pose.consumePreEvaluated())
+				processor.tickAnimation(animationState);
+
+			pose.applyToBones();
+		}
 
 		setCustomAnimations(animationState);
 	}
@@ -242,12 +242,8 @@ public class GeoArmorRenderer<T extends Item & GeoItem, R extends HumanoidRender
 	@Override
 	public void renderRecursively(R renderState, PoseStack poseStack, GeoBone bone, RenderType renderType, MultiBufferSource bufferSource, VertexConsumer buffer, boolean isReRender,
 								  int packedLight, int packedOverlay, int renderColor) {
-		if (bone.isTrackingMatrices()) {
-			Matrix4f poseState = new Matrix4f(poseStack.last().pose());
-
-			bone.setModelSpaceMatrix(RenderUtil.invertAndMultiplyMatrices(poseState, this.modelRenderTranslations));
-			bone.setLocalSpaceMatrix(RenderUtil.invertAndMultiplyMatrices(poseState, this.entityRenderTranslations));
-		}
+		if (bone.isTrackingMatrices())
+			bone.trackPose(poseStack.last().pose(), this.modelRenderTranslations, this.entityRenderTranslations);
 
 		GeoRenderer.super.renderRecursively(renderState, poseStack, bone, renderType, bufferSource, buffer, isReRender, packedLight, packedOverlay, renderColor);
 	}
@@ -25,12 +25,12 @@ import net.minecraft.world.item.BlockItem;
 import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.AbstractSkullBlock;
+import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.scores.Team;
 import org.apache.commons.lang3.mutable.MutableObject;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix4f;
-import org.joml.Vector3f;
 import software.bernie.geckolib.GeckoLibServices;
 import software.bernie.geckolib.animatable.GeoAnimatable;
 import software.bernie.geckolib.cache.object.BakedGeoModel;
@@ -394,12 +394,10 @@ public class GeoReplacedEntityRenderer<T extends GeoAnimatable, E extends Entity
 		RenderUtil.scaleMatrixForBone(poseStack, bone);
 
 		if (bone.isTrackingMatrices()) {
-			Matrix4f poseState = new Matrix4f(poseStack.last().pose());
-			Matrix4f localMatrix = RenderUtil.invertAndMultiplyMatrices(poseState, this.entityRenderTranslations);
+			Vec3 renderOffset = getRenderOffset(renderState);
 
-			bone.setModelSpaceMatrix(RenderUtil.invertAndMultiplyMatrices(poseState, this.modelRenderTranslations));
-			bone.setLocalSpaceMatrix(RenderUtil.translateMatrix(localMatrix, getRenderOffset(renderState).toVector3f()));
-			bone.setWorldSpaceMatrix(RenderUtil.translateMatrix(new Matrix4f(localMatrix), new Vector3f((float)renderState.x, (float)renderState.y, (float)renderState.z)));
+			bone.trackPose(poseStack.last().pose(), this.modelRenderTranslations, this.entityRenderTranslations, (float)renderOffset.x, (float)renderOffset.y, (float)renderOffset.z,
+						   (float)renderState.x, (float)renderState.y, (float)renderState.z);
 		}
 
 		RenderUtil.translateAwayFromPivotPoint(poseStack, bone);
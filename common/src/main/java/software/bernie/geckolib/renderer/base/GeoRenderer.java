@@ -18,6 +18,7 @@ import org.joml.Matrix4f;
 import org.joml.Vector3f;
 import org.joml.Vector4f;
 import software.bernie.geckolib.animatable.GeoAnimatable;
+import software.bernie.geckolib.animatable.processing.AnimationLodPolicy;
 import software.bernie.geckolib.animatable.processing.AnimationState;
 import software.bernie.geckolib.animatable.processing.AnimationTest;
 import software.bernie.geckolib.cache.object.*;
@@ -25,6 +26,7 @@ import software.bernie.geckolib.constant.DataTickets;
 import software.bernie.geckolib.constant.dataticket.DataTicket;
 import software.bernie.geckolib.model.GeoModel;
 import software.bernie.geckolib.renderer.layer.GeoRenderLayer;
+import software.bernie.geckolib.util.ClientUtil;
 import software.bernie.geckolib.util.RenderUtil;
 
 import java.util.List;
@@ -100,6 +102,15 @@ public interface GeoRenderer<T extends GeoAnimatable, O, R extends GeoRenderStat
 		return 0.015f;
 	}
 
+	/**
+	 * Gets the {@link AnimationLodPolicy} to use for the given animatable, reducing how often its animations are evaluated based on its distance from the camera
+	 * <p>
+	 * Only applies to render passes that have a {@link DataTickets#POSITION}
+	 */
+	default AnimationLodPolicy getAnimationLodPolicy(T animatable) {
+		return AnimationLodPolicy.getDefaultPolicy();
+	}
+
 	/**
 	 * Gets the texture resource location to render for the given animatable
 	 */
@@ -169,6 +180,16 @@ public interface GeoRenderer<T extends GeoAnimatable, O, R extends GeoRenderStat
 			renderLayer.addRenderData(animatable, relatedObject, renderState);
 		}
 
+		if (renderState.hasGeckolibData(DataTickets.POSITION)) {
+			double cameraDistance = ClientUtil.getCameraPos().distanceTo(renderState.getGeckolibData(DataTickets.POSITION));
+
+			renderState.addGeckolibData(DataTickets.CAMERA_DISTANCE, cameraDistance);
+			renderState.addGeckolibData(DataTickets.ANIMATION_LOD, getAnimationLodPolicy(animatable).getLevel(cameraDistance));
+		}
+		else {
+			renderState.addGeckolibData(DataTickets.ANIMATION_LOD, null);
+		}
+
 		fireCompileRenderStateEvent(animatable, relatedObject, renderState);
 		getGeoModel().prepareForRenderPass(animatable, renderState);
 
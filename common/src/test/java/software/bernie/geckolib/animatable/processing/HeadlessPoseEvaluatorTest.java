@@ -0,0 +1,92 @@
+package software.bernie.geckolib.animatable.processing;
+
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.cache.object.GeoBone;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the bone matrices computed by {@link HeadlessPoseEvaluator.ModelPose} against hand-computed transforms
+ */
+class HeadlessPoseEvaluatorTest {
+	private static final float EPSILON = 1e-5f;
+
+	@Test
+	void computesPosedBoneMatrices() {
+		GeoBone root = bone(null, "root", 0, 8, 0);
+		GeoBone arm = bone(root, "arm", 4, 16, 0);
+		BakedGeoModel model = model(root, arm);
+		BonePoseBuffer buffer = new BonePoseBuffer();
+		HeadlessPoseEvaluator.ModelPose pose = new HeadlessPoseEvaluator.ModelPose();
+
+		buffer.prepare(model.bones());
+		buffer.setPosition(root.getIndex(), 16, 0, 0);
+		buffer.setRotation(arm.getIndex(), 0, 0, (float)Math.PI / 2f);
+		pose.compute(model, buffer);
+
+		// Root: offset by -1 block on X (positions are mirrored on X), then moved to its pivot
+		assertVector(-1, 0.5f, 0, pose.getBonePosition(root.getIndex(), new Vector3f()));
+		// Arm: the root's transform without its pivot, then moved to its own pivot and rotated 90 degrees about Z
+		assertVector(-0.75f, 1, 0, pose.getBonePosition(arm.getIndex(), new Vector3f()));
+		assertVector(0, 1, 0, pose.getModelSpaceMatrix(arm.getIndex()).transformDirection(new Vector3f(1, 0, 0)));
+		assertTrue(pose.getModel() == model, "Pose was not computed for the given model");
+	}
+
+	@Test
+	void fallsBackToInitialPose() {
+		GeoBone root = bone(null, "root", 0, 8, 0);
+		GeoBone arm = new GeoBone(root, "arm", false, null, null, null);
+
+		arm.setPivotX(4);
+		arm.setPivotY(16);
+		arm.setRotY((float)Math.PI / 2f);
+		arm.saveInitialSnapshot();
+		root.getChildBones().add(arm);
+
+		BakedGeoModel model = model(root, arm);
+		HeadlessPoseEvaluator.ModelPose pose = new HeadlessPoseEvaluator.ModelPose();
+
+		pose.compute(model, new BonePoseBuffer());
+
+		Matrix4f armMatrix = pose.getModelSpaceMatrix(arm.getIndex());
+
+		assertVector(0, 0.5f, 0, pose.getBonePosition(root.getIndex(), new Vector3f()));
+		assertVector(0.25f, 1, 0, armMatrix.getTranslation(new Vector3f()));
+		assertVector(1, 0, 0, armMatrix.transformDirection(new Vector3f(0, 0, 1)));
+	}
+
+	private static GeoBone bone(GeoBone parent, String name, float pivotX, float pivotY, float pivotZ) {
+		GeoBone bone = new GeoBone(parent, name, false, null, null, null);
+
+		bone.setPivotX(pivotX);
+		bone.setPivotY(pivotY);
+		bone.setPivotZ(pivotZ);
+		bone.saveInitialSnapshot();
+
+		if (parent != null)
+			parent.getChildBones().add(bone);
+
+		return bone;
+	}
+
+	private static BakedGeoModel model(GeoBone root, GeoBone child) {
+		BakedGeoModel model = new BakedGeoModel(List.of(root), null);
+
+		assertEquals(List.of(root, child), model.bones());
+
+		return model;
+	}
+
+	private static void assertVector(float x, float y, float z, Vector3f actual) {
+		assertEquals(x, actual.x, EPSILON, "X of " + actual);
+		assertEquals(y, actual.y, EPSILON, "Y of " + actual);
+		assertEquals(z, actual.z, EPSILON, "Z of " + actual);
+	}
+}
@@ -0,0 +1,66 @@
+package software.bernie.geckolib.animation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the documented error bounds of {@link EasingLookupTables} against directly computed {@link EasingType.CurveEasing curve easings}
+ */
+class EasingLookupTablesTest {
+	private static final int RESOLUTION = 256;
+	private static final int POINTS = 100_000;
+	private static final double MAX_ERROR = 1e-4;
+	private static final double MAX_BOUNCE_ERROR = 1e-2;
+
+	@Test
+	void tablesStayWithinDocumentedError() {
+		int checked = 0;
+
+		for (Map.Entry<String, EasingType> entry : EasingType.EASING_TYPES.entrySet()) {
+			if (!(entry.getValue() instanceof EasingType.CurveEasing easing))
+				continue;
+
+			double[] direct = new double[POINTS + 1];
+
+			EasingLookupTables.setResolution(0);
+
+			for (int i = 0; i <= POINTS; i++) {
+				direct[i] = easing.ease(i / (double)POINTS, Double.NaN);
+			}
+
+			try {
+				EasingLookupTables.setResolution(RESOLUTION);
+
+				if (easing.getLookupTable() == null)
+					continue;
+
+				double bound = entry.getKey().contains("bounce") ? MAX_BOUNCE_ERROR : MAX_ERROR;
+				double maxError = 0;
+
+				for (int i = 0; i <= POINTS; i++) {
+					maxError = Math.max(maxError, Math.abs(easing.ease(i / (double)POINTS, Double.NaN) - direct[i]));
+				}
+
+				checked++;
+
+				assertTrue(maxError < bound, entry.getKey() + " deviates from its curve by " + maxError + " at a resolution of " + RESOLUTION);
+				assertTrue(EasingLookupTables.getMaxError(easing) < bound, entry.getKey() + " reports a maximum error of " + EasingLookupTables.getMaxError(easing));
+			}
+			finally {
+				EasingLookupTables.setResolution(0);
+			}
+		}
+
+		assertTrue(checked > 0, "No easing types use lookup tables");
+	}
+
+	@Test
+	void tablesAreUnusedWhenDisabled() {
+		EasingLookupTables.setResolution(0);
+
+		assertTrue(EasingLookupTables.getMaxError(EasingType.EASE_OUT_ELASTIC) == 0, "Lookup table in use while disabled");
+	}
+}
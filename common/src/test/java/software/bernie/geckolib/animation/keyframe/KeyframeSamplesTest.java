@@ -0,0 +1,87 @@
+package software.bernie.geckolib.animation.keyframe;
+
+import org.junit.jupiter.api.Test;
+import software.bernie.geckolib.animation.EasingType;
+import software.bernie.geckolib.loading.math.MathValue;
+import software.bernie.geckolib.loading.math.value.Constant;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link KeyframeSamples} only pre-samples stacks that stay within the maximum error everywhere, not just at the checked points
+ */
+class KeyframeSamplesTest {
+	private static final String[] EASINGS = {"linear", "easeinoutsine", "easeoutcubic", "easeinback", "easeoutback", "easeinoutback",
+											 "easeinelastic", "easeoutelastic", "easeinoutelastic", "easeoutbounce", "easeinoutexpo"};
+	private static final double[] LENGTHS = {2, 5, 10, 20, 40};
+	private static final double[] AMPLITUDES = {0.05, 0.3, 1.5, 8};
+	private static final int POINTS_PER_INTERVAL = 256;
+	// Allowance for the samples being stored as floats
+	private static final double FLOAT_TOLERANCE = 1e-5;
+
+	@Test
+	void sampledStacksStayWithinMaxError() {
+		int sampled = 0;
+
+		for (String easing : EASINGS) {
+			for (double length : LENGTHS) {
+				for (double amplitude : AMPLITUDES) {
+					KeyframeStack<Keyframe<MathValue>> stack = stack(EasingType.fromString(easing), length, amplitude);
+					KeyframeSamples samples = KeyframeSamples.sample(stack);
+
+					if (samples == null)
+						continue;
+
+					sampled++;
+					double maxDeviation = maxDeviation(samples, stack);
+
+					assertTrue(maxDeviation <= KeyframeSamples.getMaxError() + FLOAT_TOLERANCE,
+							   "Sampled " + easing + " over " + length + " ticks with amplitude " + amplitude + " deviates by " + maxDeviation);
+				}
+			}
+		}
+
+		assertTrue(sampled > EASINGS.length, "Only " + sampled + " stacks were sampled");
+	}
+
+	@Test
+	void hardEasedStacksAreNotSampled() {
+		assertTrue(KeyframeSamples.sample(stack(EasingType.EASE_OUT_ELASTIC, 5, 100)) == null, "Elastic stack exceeding the maximum error was sampled");
+		assertTrue(KeyframeSamples.sample(stack(EasingType.EASE_IN_OUT_BACK, 2, 100)) == null, "Back-eased stack exceeding the maximum error was sampled");
+	}
+
+	@Test
+	void linearStacksAreSampled() {
+		assertTrue(KeyframeSamples.sample(stack(EasingType.LINEAR, 20, 100)) != null, "Linear stack was not sampled");
+	}
+
+	/**
+	 * Build a stack that holds at 0, then eases to the given amplitude over the given length, and back again
+	 */
+	private static KeyframeStack<Keyframe<MathValue>> stack(EasingType easing, double length, double amplitude) {
+		List<Keyframe<MathValue>> keyframes = List.of(new Keyframe<>(0, new Constant(0), new Constant(0)),
+													  new Keyframe<>(length, new Constant(0), new Constant(amplitude), easing),
+													  new Keyframe<>(length, new Constant(amplitude), new Constant(0), easing));
+
+		return new KeyframeStack<>(keyframes, keyframes, keyframes);
+	}
+
+	/**
+	 * Find the largest deviation between the interpolated samples and the keyframe-evaluated values, checked densely across every sample interval
+	 */
+	private static double maxDeviation(KeyframeSamples samples, KeyframeStack<Keyframe<MathValue>> stack) {
+		double length = stack.getLastKeyframeTime();
+		double step = samples.interval() / POINTS_PER_INTERVAL;
+		double maxDeviation = 0;
+
+		for (double tick = 0; tick <= length; tick += step) {
+			double expected = KeyframeSamples.evaluate(stack.xKeyframes(), stack.xStartTimes(), tick);
+
+			maxDeviation = Math.max(maxDeviation, Math.abs(KeyframeSamples.interpolate(samples.xSamples(), samples.interval(), tick) - expected));
+		}
+
+		return maxDeviation;
+	}
+}
@@ -0,0 +1,18 @@
+package software.bernie.geckolib.loading.math.compile;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Differential test of {@link FlatMathValue} against the interpreter
+ */
+class FlatMathValueTest {
+    @Test
+    void loweredMatchesInterpreter() {
+        new MolangDifferential(1337).run(5000, FlatMathValue::lower, FlatMathValue.class);
+    }
+
+    @Test
+    void optimizedAndLoweredMatchesInterpreter() {
+        new MolangDifferential(7331).run(5000, value -> FlatMathValue.lower(MolangOptimizer.optimize(value)[0]), FlatMathValue.class);
+    }
+}
@@ -0,0 +1,13 @@
+package software.bernie.geckolib.loading.math.compile;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Differential test of {@link MolangCompiler} against the interpreter
+ */
+class MolangCompilerTest {
+    @Test
+    void compiledMatchesInterpreter() {
+        new MolangDifferential(42).run(5000, MolangCompiler::compile, CompiledMathValue.class);
+    }
+}
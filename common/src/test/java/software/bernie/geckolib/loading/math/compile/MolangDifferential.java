@@ -0,0 +1,135 @@
+package software.bernie.geckolib.loading.math.compile;
+
+import software.bernie.geckolib.loading.math.MathParser;
+import software.bernie.geckolib.loading.math.MathValue;
+import software.bernie.geckolib.loading.math.value.Variable;
+
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Seeded differential check of a Molang backend against the interpreter
+ * <p>
+ * Generates random expressions from a fixed seed, transforms each with the backend under test, and checks that the transformed value
+ * produces bitwise-identical results and variable assignments to the interpreted value across a range of inputs.<br>
+ * Random functions are excluded, as their results can't be compared between two separate evaluations
+ */
+final class MolangDifferential {
+    private static final String[] UNARY_FUNCTIONS = {"math.abs", "math.acos", "math.asin", "math.atan", "math.cos", "math.sin", "math.exp", "math.ln", "math.sqrt",
+            "math.to_deg", "math.to_rad", "math.ceil", "math.floor", "math.round", "math.trunc", "math.hermite_blend"};
+    private static final String[] BINARY_FUNCTIONS = {"math.atan2", "math.mod", "math.pow", "math.max", "math.min"};
+    private static final String[] TERNARY_FUNCTIONS = {"math.clamp", "math.lerp", "math.lerprotate"};
+    private static final String[] OPERATORS = {"+", "-", "*", "/", "%", "^", "&&", "||", "<", "<=", ">", ">=", "==", "!="};
+    private static final int INPUTS_PER_EXPRESSION = 8;
+
+    private final Random random;
+    private final Variable input = MathParser.getVariableFor("v.t");
+    private final Variable a = MathParser.getVariableFor("v.a");
+    private final Variable b = MathParser.getVariableFor("v.b");
+
+    MolangDifferential(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Check the given number of random expressions against the interpreter
+     *
+     * @param count The number of expressions to generate
+     * @param backend The transformation under test
+     * @param transformedType The type the backend produces when it has transformed an expression
+     * @return The number of expressions the backend actually transformed
+     */
+    int run(int count, UnaryOperator<MathValue> backend, Class<? extends MathValue> transformedType) {
+        int transformed = 0;
+
+        for (int i = 0; i < count; i++) {
+            String source = program();
+            MathValue interpreted;
+
+            try {
+                interpreted = MathParser.compileMolang(source);
+            }
+            catch (RuntimeException ex) {
+                // Some generated forms such as a negated group after a binary operator aren't supported by the parser, and aren't what's under test here
+                i--;
+
+                continue;
+            }
+
+            MathValue candidate = backend.apply(interpreted);
+
+            if (transformedType.isInstance(candidate))
+                transformed++;
+
+            for (int j = 0; j < INPUTS_PER_EXPRESSION; j++) {
+                double input = j == 0 ? 0 : this.random.nextDouble() * 200 - 50;
+
+                this.input.set(input);
+                reset();
+
+                double expected = interpreted.get(null);
+                double expectedA = this.a.get(null);
+                double expectedB = this.b.get(null);
+
+                reset();
+
+                double actual = candidate.get(null);
+
+                if (!same(expected, actual) || !same(expectedA, this.a.get(null)) || !same(expectedB, this.b.get(null)))
+                    fail("'" + source + "' with v.t = " + input + ": interpreted " + expected + " (v.a = " + expectedA + ", v.b = " + expectedB + "), transformed " +
+                            actual + " (v.a = " + this.a.get(null) + ", v.b = " + this.b.get(null) + ")");
+            }
+        }
+
+        assertTrue(transformed > count / 2, "Only " + transformed + " of " + count + " expressions were transformed");
+
+        return transformed;
+    }
+
+    private void reset() {
+        this.a.set(1.5);
+        this.b.set(-2);
+    }
+
+    private String program() {
+        if (this.random.nextInt(3) != 0)
+            return expression(4);
+
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = this.random.nextInt(3); i >= 0; i--) {
+            builder.append(this.random.nextBoolean() ? "v.a" : "v.b").append(" = ").append(expression(3)).append("; ");
+        }
+
+        return builder.append("return ").append(expression(3)).toString();
+    }
+
+    private String expression(int depth) {
+        return switch (depth <= 0 ? this.random.nextInt(3) : this.random.nextInt(10)) {
+            case 0 -> this.random.nextInt(4) == 0 ? "0" : String.valueOf(this.random.nextInt(20) - 5 + (this.random.nextBoolean() ? 0.5 : 0));
+            case 1 -> "v.t";
+            case 2 -> this.random.nextBoolean() ? "v.a" : "v.b";
+            case 3 -> "(" + expression(depth - 1) + ")";
+            case 4 -> "-(" + expression(depth - 1) + ")";
+            case 5 -> "!(" + expression(depth - 1) + ")";
+            case 6 -> expression(depth - 1) + " " + OPERATORS[this.random.nextInt(OPERATORS.length)] + " " + expression(depth - 1);
+            case 7 -> "(" + expression(depth - 1) + ") ? (" + expression(depth - 1) + ") : (" + expression(depth - 1) + ")";
+            case 8 -> switch (this.random.nextInt(3)) {
+                case 0 -> UNARY_FUNCTIONS[this.random.nextInt(UNARY_FUNCTIONS.length)] + "(" + expression(depth - 1) + ")";
+                case 1 -> BINARY_FUNCTIONS[this.random.nextInt(BINARY_FUNCTIONS.length)] + "(" + expression(depth - 1) + ", " + expression(depth - 1) + ")";
+                default -> TERNARY_FUNCTIONS[this.random.nextInt(TERNARY_FUNCTIONS.length)] + "(" + expression(depth - 1) + ", " + expression(depth - 1) + ", " + expression(depth - 1) + ")";
+            };
+            default -> "v.t * " + expression(depth - 1);
+        };
+    }
+
+    /**
+     * Whether two results are identical, treating positive and negative zero as equal
+     */
+    private static boolean same(double expected, double actual) {
+        return Double.doubleToLongBits(expected) == Double.doubleToLongBits(actual) || (expected == 0 && actual == 0);
+    }
+}